@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.conformity.check;
+
+import org.creekservice.internal.test.conformity.check.ModuleDependenciesCheck;
+
+/**
+ * The module's dependency graph should be bounded, i.e. the number of modules it exposes to
+ * consumers via {@code requires transitive} and the depth of its resolved {@code requires} graph
+ * should not exceed a budget.
+ *
+ * <p>The time taken to resolve modules on start up scales with the size of the dependency graph,
+ * and every {@code requires transitive} in an API module is inherited by all of its consumers.
+ *
+ * <p>This check is not enabled by default, as appropriate budgets vary by module. Enable it via
+ * {@link org.creekservice.api.test.conformity.ConformityTester#withCustom}.
+ */
+public interface CheckModuleDependencies extends ConformityCheck {
+
+    /**
+     * @return a builder used to customise the check
+     */
+    static CheckModuleDependencies builder() {
+        return new ModuleDependenciesCheck.Options();
+    }
+
+    /**
+     * Customise the maximum number of modules that consumers of the module under test will read
+     * implicitly, due to {@code requires transitive} chains.
+     *
+     * <p>Default: 16.
+     *
+     * @param justification text explaining why the budget is being changed.
+     * @param max the maximum number of modules.
+     * @return self.
+     */
+    CheckModuleDependencies withMaxTransitiveFanOut(String justification, int max);
+
+    /**
+     * Customise the maximum length of the longest chain of {@code requires} from the module under
+     * test, through its resolved dependencies.
+     *
+     * <p>The implicit dependency on {@code java.base} is not counted. Default: 8.
+     *
+     * @param justification text explaining why the budget is being changed.
+     * @param max the maximum chain length.
+     * @return self.
+     */
+    CheckModuleDependencies withMaxDepth(String justification, int max);
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.conformity.check;
+
+import org.creekservice.api.test.conformity.ExcludesClasses;
+import org.creekservice.api.test.conformity.ExcludesPackages;
+import org.creekservice.internal.test.conformity.check.NoDuplicateClassesCheck;
+
+/**
+ * Packages exported by the module should not be split across, and their classes should not be
+ * duplicated in, more than one jar on the class or module path.
+ *
+ * <p>Duplicate classes slow class loading and result in confusing shadowing at runtime. Split
+ * packages are only checked for named modules, as they are legal on the class path.
+ *
+ * <p>Unless test classes are included, any location containing test classes is assumed to hold
+ * test code patched into the module and is ignored.
+ *
+ * <p>This check is not enabled by default, as it scans the class and module path. Enable it via
+ * {@link org.creekservice.api.test.conformity.ConformityTester#withCustom}.
+ */
+public interface CheckNoDuplicateClasses
+        extends ConformityCheck,
+                ExcludesPackages<CheckNoDuplicateClasses>,
+                ExcludesClasses<CheckNoDuplicateClasses> {
+
+    /**
+     * @return a builder used to customise the check
+     */
+    static CheckNoDuplicateClasses builder() {
+        return new NoDuplicateClassesCheck.Options();
+    }
+}
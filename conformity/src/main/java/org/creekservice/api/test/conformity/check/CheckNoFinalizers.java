@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.conformity.check;
+
+import org.creekservice.api.test.conformity.ExcludesClasses;
+import org.creekservice.api.test.conformity.ExcludesPackages;
+import org.creekservice.internal.test.conformity.check.NoFinalizersCheck;
+
+/**
+ * No type in the module, API or otherwise, should override {@link Object#finalize()}.
+ *
+ * <p>Instances of types with finalizers are tracked by the JVM's finalizer queue, which slows down
+ * allocation and adds GC latency. Resources should be released via {@link AutoCloseable} instead.
+ *
+ * <p>Likewise, API types should not register with a {@link java.lang.ref.Cleaner} from their
+ * constructors, as this adds a cost to every instance users create. Only direct calls to {@code
+ * Cleaner.register} from constructors are detected.
+ *
+ * <p>This check is not enabled by default, as it fails existing modules with finalizers. Enable it
+ * via {@link org.creekservice.api.test.conformity.ConformityTester#withCustom}.
+ */
+public interface CheckNoFinalizers
+        extends ConformityCheck,
+                ExcludesPackages<CheckNoFinalizers>,
+                ExcludesClasses<CheckNoFinalizers> {
+
+    /**
+     * @return a builder used to customise the check
+     */
+    static CheckNoFinalizers builder() {
+        return new NoFinalizersCheck.Options();
+    }
+}
@@ -18,8 +18,11 @@ package org.creekservice.internal.test.conformity;
 
 import static java.util.Objects.requireNonNull;
 
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
 import java.net.URI;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /** A target on which checks will be run. */
 public final class CheckTarget implements AutoCloseable {
@@ -63,6 +66,17 @@ public final class CheckTarget implements AutoCloseable {
                 existing -> existing == null ? new ClassFinder(typeFromModuleToTest) : existing);
     }
 
+    /**
+     * Scan the module's types, customising the scan to collect information the shared {@link
+     * #types()} scan does not.
+     *
+     * @param customiser called to customise the scan.
+     * @return the result of the scan, which the caller must close.
+     */
+    public ScanResult scan(final UnaryOperator<ClassGraph> customiser) {
+        return customiser.apply(ClassFinder.classGraph(typeFromModuleToTest)).scan();
+    }
+
     @Override
     public void close() {
         types.updateAndGet(
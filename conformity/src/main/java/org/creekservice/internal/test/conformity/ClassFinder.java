@@ -35,7 +35,7 @@ public final class ClassFinder implements ModuleTypes, AutoCloseable {
      * @param typeFromModuleToTest any type from the module to scan.
      */
     public ClassFinder(final Class<?> typeFromModuleToTest) {
-        this.scanResult = scan(typeFromModuleToTest);
+        this.scanResult = classGraph(typeFromModuleToTest).scan();
     }
 
     @Override
@@ -53,7 +53,11 @@ public final class ClassFinder implements ModuleTypes, AutoCloseable {
         scanResult.close();
     }
 
-    private static ScanResult scan(final Class<?> typeFromModuleToTest) {
+    /**
+     * @param typeFromModuleToTest any type from the module to scan.
+     * @return a class graph configured to scan the Creek types in the module.
+     */
+    static ClassGraph classGraph(final Class<?> typeFromModuleToTest) {
         final Module moduleUnderTest = typeFromModuleToTest.getModule();
 
         final String[] packages =
@@ -74,7 +78,7 @@ public final class ClassFinder implements ModuleTypes, AutoCloseable {
             classGraph.acceptJars(jarLeafName(typeFromModuleToTest));
         }
 
-        return classGraph.scan();
+        return classGraph;
     }
 
     private static String[] jarLeafName(final Class<?> typeFromModuleToTest) {
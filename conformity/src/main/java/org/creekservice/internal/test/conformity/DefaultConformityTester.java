@@ -35,6 +35,9 @@ import org.creekservice.internal.test.conformity.check.CheckRunner;
 import org.creekservice.internal.test.conformity.check.ConstructorsPrivateCheck;
 import org.creekservice.internal.test.conformity.check.ExportedPackagesCheck;
 import org.creekservice.internal.test.conformity.check.ModuleCheck;
+import org.creekservice.internal.test.conformity.check.ModuleDependenciesCheck;
+import org.creekservice.internal.test.conformity.check.NoDuplicateClassesCheck;
+import org.creekservice.internal.test.conformity.check.NoFinalizersCheck;
 
 /** Default implementation of {@link ConformityTester} */
 public final class DefaultConformityTester implements ConformityTester {
@@ -54,7 +57,17 @@ public final class DefaultConformityTester implements ConformityTester {
                     ConstructorsPrivateCheck.Options.class,
                     options ->
                             new ConstructorsPrivateCheck(
-                                    (ConstructorsPrivateCheck.Options) options));
+                                    (ConstructorsPrivateCheck.Options) options),
+                    NoFinalizersCheck.Options.class,
+                    options -> new NoFinalizersCheck((NoFinalizersCheck.Options) options),
+                    ModuleDependenciesCheck.Options.class,
+                    options ->
+                            new ModuleDependenciesCheck(
+                                    (ModuleDependenciesCheck.Options) options),
+                    NoDuplicateClassesCheck.Options.class,
+                    options ->
+                            new NoDuplicateClassesCheck(
+                                    (NoDuplicateClassesCheck.Options) options));
 
     private final Class<?> typeFromModuleToTest;
     private final Map<Class<? extends ConformityCheck>, ConformityCheck> options = new HashMap<>();
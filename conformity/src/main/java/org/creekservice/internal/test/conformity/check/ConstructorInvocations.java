@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal class file reader, used to find the methods a type's constructors invoke.
+ *
+ * <p>Only the constant pool and the code of constructors are read, without loading the type. See
+ * chapter 4 of the Java Virtual Machine Specification for the class file format.
+ */
+final class ConstructorInvocations {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String CONSTRUCTOR = "<init>";
+    private static final String CODE = "Code";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+
+    private static final int INVOKE_VIRTUAL = 0xb6;
+    private static final int INVOKE_INTERFACE = 0xb9;
+    private static final int TABLE_SWITCH = 0xaa;
+    private static final int LOOKUP_SWITCH = 0xab;
+    private static final int WIDE = 0xc4;
+    private static final int IINC = 0x84;
+
+    /** Size of constant pool entries, excluding the tag, by tag. Zero for unknown tags. */
+    private static final int[] CONSTANT_SIZES = new int[21];
+
+    /** Length of fixed size instructions, including operands, by opcode. */
+    private static final int[] INSTRUCTION_LENGTHS = new int[256];
+
+    static {
+        CONSTANT_SIZES[3] = 4; // Integer
+        CONSTANT_SIZES[4] = 4; // Float
+        CONSTANT_SIZES[CONSTANT_LONG] = 8;
+        CONSTANT_SIZES[CONSTANT_DOUBLE] = 8;
+        CONSTANT_SIZES[7] = 2; // Class
+        CONSTANT_SIZES[8] = 2; // String
+        CONSTANT_SIZES[9] = 4; // Fieldref
+        CONSTANT_SIZES[CONSTANT_METHOD_REF] = 4;
+        CONSTANT_SIZES[CONSTANT_INTERFACE_METHOD_REF] = 4;
+        CONSTANT_SIZES[12] = 4; // NameAndType
+        CONSTANT_SIZES[15] = 3; // MethodHandle
+        CONSTANT_SIZES[16] = 2; // MethodType
+        CONSTANT_SIZES[17] = 4; // Dynamic
+        CONSTANT_SIZES[18] = 4; // InvokeDynamic
+        CONSTANT_SIZES[19] = 2; // Module
+        CONSTANT_SIZES[20] = 2; // Package
+
+        Arrays.fill(INSTRUCTION_LENGTHS, 1);
+        lengths(2, 0x10, 0x12); // bipush, ldc
+        lengths(3, 0x11, 0x13, 0x14); // sipush, ldc_w, ldc2_w
+        lengths(2, 0x15, 0x16, 0x17, 0x18, 0x19); // loads
+        lengths(2, 0x36, 0x37, 0x38, 0x39, 0x3a); // stores
+        lengths(3, IINC);
+        for (int opcode = 0x99; opcode <= 0xa8; ++opcode) {
+            lengths(3, opcode); // if*, goto, jsr
+        }
+        lengths(2, 0xa9); // ret
+        for (int opcode = 0xb2; opcode <= 0xb8; ++opcode) {
+            lengths(3, opcode); // field access, invokevirtual, invokespecial, invokestatic
+        }
+        lengths(5, INVOKE_INTERFACE, 0xba); // invokeinterface, invokedynamic
+        lengths(3, 0xbb, 0xbd, 0xc0, 0xc1); // new, anewarray, checkcast, instanceof
+        lengths(2, 0xbc); // newarray
+        lengths(4, 0xc5); // multianewarray
+        lengths(3, 0xc6, 0xc7); // ifnull, ifnonnull
+        lengths(5, 0xc8, 0xc9); // goto_w, jsr_w
+    }
+
+    private final ByteBuffer bytes;
+    private final int[] constants;
+
+    private ConstructorInvocations(final byte[] classFile) {
+        this.bytes = ByteBuffer.wrap(classFile);
+        if (bytes.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        skip(4); // version
+        this.constants = readConstantPool();
+    }
+
+    /**
+     * @param classFile the bytes of the class file.
+     * @param owner the internal name of the type declaring the method, e.g. {@code
+     *     java/lang/ref/Cleaner}.
+     * @param method the name of the method.
+     * @return {@code true} if any constructor directly invokes the method.
+     * @throws IllegalArgumentException if the class file is malformed.
+     */
+    static boolean anyInvoke(final byte[] classFile, final String owner, final String method) {
+        try {
+            return new ConstructorInvocations(classFile).invoke(owner, method);
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed class file", e);
+        }
+    }
+
+    private int[] readConstantPool() {
+        final int count = u2();
+        final int[] offsets = new int[count];
+        for (int i = 1; i < count; ++i) {
+            final int tag = bytes.get() & 0xFF;
+            offsets[i] = bytes.position();
+            if (tag == CONSTANT_UTF8) {
+                skip(u2());
+                continue;
+            }
+
+            final int size = tag < CONSTANT_SIZES.length ? CONSTANT_SIZES[tag] : 0;
+            if (size == 0) {
+                throw new IllegalArgumentException("Unknown constant pool tag: " + tag);
+            }
+            skip(size);
+
+            if (tag == CONSTANT_LONG || tag == CONSTANT_DOUBLE) {
+                ++i; // Takes two slots.
+            }
+        }
+        return offsets;
+    }
+
+    private boolean invoke(final String owner, final String method) {
+        skip(6); // access flags, this class, super class
+        skip(u2() * 2); // interfaces
+        skipFields();
+
+        final int methods = u2();
+        for (int m = 0; m < methods; ++m) {
+            skip(2); // access flags
+            final boolean constructor = utf8(u2()).equals(CONSTRUCTOR);
+            skip(2); // descriptor
+
+            final int attributes = u2();
+            for (int a = 0; a < attributes; ++a) {
+                final String name = utf8(u2());
+                final int length = bytes.getInt();
+                final int end = bytes.position() + length;
+                if (constructor && name.equals(CODE) && codeInvokes(owner, method)) {
+                    return true;
+                }
+                bytes.position(end);
+            }
+        }
+        return false;
+    }
+
+    private void skipFields() {
+        final int fields = u2();
+        for (int f = 0; f < fields; ++f) {
+            skip(6); // access flags, name, descriptor
+            final int attributes = u2();
+            for (int a = 0; a < attributes; ++a) {
+                skip(2);
+                skip(bytes.getInt());
+            }
+        }
+    }
+
+    private boolean codeInvokes(final String owner, final String method) {
+        skip(4); // max stack, max locals
+        final int length = bytes.getInt();
+        final int start = bytes.position();
+        final int end = start + length;
+
+        int pc = start;
+        while (pc < end) {
+            final int opcode = bytes.get(pc) & 0xFF;
+            if (opcode >= INVOKE_VIRTUAL
+                    && opcode <= INVOKE_INTERFACE
+                    && isMethod(u2(pc + 1), owner, method)) {
+                return true;
+            }
+            pc += instructionLength(opcode, pc, pc - start);
+        }
+        return false;
+    }
+
+    private int instructionLength(final int opcode, final int pc, final int offset) {
+        // Switch operands are aligned to four bytes from the start of the code:
+        final int padding = 3 - offset % 4;
+        if (opcode == TABLE_SWITCH) {
+            final int low = bytes.getInt(pc + 1 + padding + 4);
+            final int high = bytes.getInt(pc + 1 + padding + 8);
+            return 1 + padding + 12 + (high - low + 1) * 4;
+        }
+        if (opcode == LOOKUP_SWITCH) {
+            final int pairs = bytes.getInt(pc + 1 + padding + 4);
+            return 1 + padding + 8 + pairs * 8;
+        }
+        if (opcode == WIDE) {
+            return (bytes.get(pc + 1) & 0xFF) == IINC ? 6 : 4;
+        }
+        return INSTRUCTION_LENGTHS[opcode];
+    }
+
+    private boolean isMethod(final int index, final String owner, final String method) {
+        final int tag = bytes.get(constants[index] - 1);
+        if (tag != CONSTANT_METHOD_REF && tag != CONSTANT_INTERFACE_METHOD_REF) {
+            return false;
+        }
+
+        final int classIndex = u2(constants[index]);
+        final int nameAndTypeIndex = u2(constants[index] + 2);
+        return utf8(u2(constants[nameAndTypeIndex])).equals(method)
+                && utf8(u2(constants[classIndex])).equals(owner);
+    }
+
+    private String utf8(final int index) {
+        final int offset = constants[index];
+        final int length = u2(offset);
+        return new String(bytes.array(), offset + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private int u2() {
+        return bytes.getShort() & 0xFFFF;
+    }
+
+    private int u2(final int index) {
+        return bytes.getShort(index) & 0xFFFF;
+    }
+
+    private void skip(final int count) {
+        bytes.position(bytes.position() + count);
+    }
+
+    private static void lengths(final int length, final int... opcodes) {
+        for (final int opcode : opcodes) {
+            INSTRUCTION_LENGTHS[opcode] = length;
+        }
+    }
+}
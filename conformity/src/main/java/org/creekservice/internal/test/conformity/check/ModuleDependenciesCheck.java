@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleDescriptor.Requires;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.creekservice.api.test.conformity.check.CheckModuleDependencies;
+import org.creekservice.internal.test.conformity.CheckTarget;
+
+/**
+ * Checks the transitive fan-out and depth of the module's resolved dependency graph are within
+ * budget.
+ */
+public final class ModuleDependenciesCheck implements CheckRunner {
+
+    private static final String NL_INDENT = System.lineSeparator() + "\t";
+    private static final String ARROW = " -> ";
+    private static final int MAX_REPORTED_PATHS = 10;
+
+    private final int maxTransitiveFanOut;
+    private final int maxDepth;
+
+    /**
+     * @param options options to control behaviour
+     */
+    public ModuleDependenciesCheck(final Options options) {
+        this.maxTransitiveFanOut = requireNonNull(options, "options").maxTransitiveFanOut;
+        this.maxDepth = options.maxDepth;
+    }
+
+    @Override
+    public String name() {
+        return CheckModuleDependencies.class.getSimpleName();
+    }
+
+    @Override
+    public void check(final CheckTarget target) {
+        final Module moduleUnderTest = target.moduleUnderTest();
+        final ModuleLayer layer = moduleUnderTest.getLayer();
+        if (!moduleUnderTest.isNamed()
+                || moduleUnderTest.getDescriptor().isAutomatic()
+                || layer == null) {
+            // Do not test unnamed/automatic modules, as they have no declared dependencies.
+            // The fact a module is unnamed/automatic will be picked up by CheckModule
+            return;
+        }
+
+        final DependencyGraph graph =
+                new DependencyGraph(name -> layer.findModule(name).map(Module::getDescriptor));
+
+        final ModuleDescriptor descriptor = moduleUnderTest.getDescriptor();
+        checkTransitiveFanOut(descriptor, graph);
+        checkDepth(descriptor, graph);
+    }
+
+    private void checkTransitiveFanOut(
+            final ModuleDescriptor descriptor, final DependencyGraph graph) {
+        final List<List<String>> paths = graph.transitivePaths(descriptor);
+        if (paths.size() > maxTransitiveFanOut) {
+            throw new DependencyBudgetExceededException(
+                    descriptor.name(),
+                    "transitive_fan_out",
+                    paths.size(),
+                    maxTransitiveFanOut,
+                    paths);
+        }
+    }
+
+    private void checkDepth(final ModuleDescriptor descriptor, final DependencyGraph graph) {
+        final List<List<String>> paths = graph.longestPaths(descriptor);
+        final int depth = paths.isEmpty() ? 0 : paths.get(0).size() - 1;
+        if (depth > maxDepth) {
+            throw new DependencyBudgetExceededException(
+                    descriptor.name(), "depth", depth, maxDepth, paths);
+        }
+    }
+
+    /** Options to configure this check */
+    public static final class Options implements CheckModuleDependencies {
+
+        private int maxTransitiveFanOut = 16;
+        private int maxDepth = 8;
+
+        @Override
+        public Options withMaxTransitiveFanOut(final String justification, final int max) {
+            this.maxTransitiveFanOut = validate(justification, max);
+            return this;
+        }
+
+        @Override
+        public Options withMaxDepth(final String justification, final int max) {
+            this.maxDepth = validate(justification, max);
+            return this;
+        }
+
+        private static int validate(final String justification, final int max) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+            if (max < 0) {
+                throw new IllegalArgumentException("max can not be negative.");
+            }
+            return max;
+        }
+    }
+
+    /** The resolved module graph, excluding the implicit dependency on {@code java.base}. */
+    private static final class DependencyGraph {
+
+        private final Function<String, Optional<ModuleDescriptor>> lookup;
+        private final Map<String, List<String>> longestFrom = new HashMap<>();
+
+        DependencyGraph(final Function<String, Optional<ModuleDescriptor>> lookup) {
+            this.lookup = requireNonNull(lookup, "lookup");
+        }
+
+        /**
+         * @return the shortest path to each module read implicitly via {@code requires
+         *     transitive}, longest first.
+         */
+        List<List<String>> transitivePaths(final ModuleDescriptor root) {
+            final Map<String, List<String>> paths = new LinkedHashMap<>();
+            final Deque<List<String>> queue = new ArrayDeque<>();
+            queue.add(List.of(root.name()));
+
+            while (!queue.isEmpty()) {
+                final List<String> path = queue.poll();
+                final String current = path.get(path.size() - 1);
+                lookup.apply(current).stream()
+                        .flatMap(md -> requires(md, true))
+                        .filter(name -> !name.equals(root.name()))
+                        .filter(name -> !paths.containsKey(name))
+                        .forEach(
+                                name -> {
+                                    final List<String> next = append(path, name);
+                                    paths.put(name, next);
+                                    queue.add(next);
+                                });
+            }
+
+            return sortLongestFirst(paths.values().stream());
+        }
+
+        /**
+         * @return the longest chain of {@code requires} via each direct dependency, longest first.
+         */
+        List<List<String>> longestPaths(final ModuleDescriptor root) {
+            return sortLongestFirst(
+                    requires(root, false)
+                            .map(
+                                    name -> {
+                                        final List<String> path = new ArrayList<>();
+                                        path.add(root.name());
+                                        path.addAll(longestFrom(name, List.of(root.name())));
+                                        return path;
+                                    }));
+        }
+
+        private List<String> longestFrom(final String name, final List<String> visiting) {
+            final List<String> known = longestFrom.get(name);
+            if (known != null) {
+                return known;
+            }
+
+            final List<String> onPath = append(visiting, name);
+            final List<String> longest = new ArrayList<>();
+            longest.add(name);
+            lookup.apply(name).stream()
+                    .flatMap(md -> requires(md, false))
+                    .filter(dep -> !onPath.contains(dep))
+                    .map(dep -> longestFrom(dep, onPath))
+                    .max(Comparator.comparingInt(List::size))
+                    .ifPresent(longest::addAll);
+
+            longestFrom.put(name, longest);
+            return longest;
+        }
+
+        private Stream<String> requires(
+                final ModuleDescriptor descriptor, final boolean transitiveOnly) {
+            return descriptor.requires().stream()
+                    .filter(r -> !r.modifiers().contains(Requires.Modifier.MANDATED))
+                    .filter(
+                            r ->
+                                    !transitiveOnly
+                                            || r.modifiers().contains(Requires.Modifier.TRANSITIVE))
+                    .map(Requires::name)
+                    .filter(name -> lookup.apply(name).isPresent())
+                    .sorted();
+        }
+
+        private static List<String> append(final List<String> path, final String name) {
+            final List<String> result = new ArrayList<>(path);
+            result.add(name);
+            return List.copyOf(result);
+        }
+
+        private static List<List<String>> sortLongestFirst(final Stream<List<String>> paths) {
+            return paths.sorted(
+                            Comparator.<List<String>>comparingInt(List::size)
+                                    .reversed()
+                                    .thenComparing(path -> String.join(ARROW, path)))
+                    .collect(toList());
+        }
+    }
+
+    private static final class DependencyBudgetExceededException extends RuntimeException {
+
+        DependencyBudgetExceededException(
+                final String moduleName,
+                final String metric,
+                final int actual,
+                final int budget,
+                final List<List<String>> paths) {
+            super(
+                    "Module dependency graph exceeds budget. module: "
+                            + moduleName
+                            + ", "
+                            + metric
+                            + ": "
+                            + actual
+                            + ", budget: "
+                            + budget
+                            + ", paths: ["
+                            + NL_INDENT
+                            + formatPaths(paths)
+                            + System.lineSeparator()
+                            + "]");
+        }
+
+        private static String formatPaths(final List<List<String>> paths) {
+            final String reported =
+                    paths.stream()
+                            .limit(MAX_REPORTED_PATHS)
+                            .map(path -> String.join(ARROW, path))
+                            .collect(joining(NL_INDENT));
+
+            return paths.size() <= MAX_REPORTED_PATHS
+                    ? reported
+                    : reported
+                            + NL_INDENT
+                            + "... and "
+                            + (paths.size() - MAX_REPORTED_PATHS)
+                            + " more";
+        }
+    }
+}
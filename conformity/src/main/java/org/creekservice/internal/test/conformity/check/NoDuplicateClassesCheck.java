@@ -0,0 +1,295 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.Resource;
+import io.github.classgraph.ResourceList;
+import io.github.classgraph.ScanResult;
+import java.lang.module.ModuleDescriptor;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.creekservice.api.test.conformity.check.CheckNoDuplicateClasses;
+import org.creekservice.internal.test.conformity.CheckTarget;
+import org.creekservice.internal.test.conformity.filter.ClassFilter;
+import org.creekservice.internal.test.conformity.filter.ClassPatternFilter;
+import org.creekservice.internal.test.conformity.filter.PackageFilter;
+
+/**
+ * Checks packages exported by the module are not split across, or have classes duplicated in,
+ * multiple jars on the class or module path.
+ */
+public final class NoDuplicateClassesCheck implements CheckRunner {
+
+    private static final String NL_INDENT = System.lineSeparator() + "\t";
+    private static final String CLASS_FILE_EXT = ".class";
+
+    private final PackageFilter packageFilter;
+    private final ClassFilter classFilter;
+    private final ClassPatternFilter classPatternFilter;
+    private final ClassPatternFilter testClassFilter;
+    private final Supplier<ClassGraph> classGraphFactory;
+
+    /**
+     * @param options options to control behaviour
+     */
+    public NoDuplicateClassesCheck(final Options options) {
+        this(options, ClassGraph::new);
+    }
+
+    // @VisibleForTesting
+    NoDuplicateClassesCheck(final Options options, final Supplier<ClassGraph> classGraphFactory) {
+        this.packageFilter = requireNonNull(options, "options").packageFilter.build();
+        this.classFilter = options.classFilter.build();
+        this.classPatternFilter = options.classPatternFilter.build(options.excludeTestClasses);
+        this.testClassFilter = ClassPatternFilter.builder().build(options.excludeTestClasses);
+        this.classGraphFactory = requireNonNull(classGraphFactory, "classGraphFactory");
+    }
+
+    @Override
+    public String name() {
+        return CheckNoDuplicateClasses.class.getSimpleName();
+    }
+
+    @Override
+    public void check(final CheckTarget target) {
+        final Module moduleUnderTest = target.moduleUnderTest();
+        final boolean named =
+                moduleUnderTest.isNamed() && !moduleUnderTest.getDescriptor().isAutomatic();
+
+        final String[] packages =
+                (named ? exportedPackages(moduleUnderTest) : jarPackages(target))
+                        .filter(packageFilter::notExcluded)
+                        .distinct()
+                        .toArray(String[]::new);
+
+        if (packages.length == 0) {
+            return;
+        }
+
+        try (ScanResult scanResult =
+                classGraphFactory
+                        .get()
+                        .enableClassInfo()
+                        .enableExternalClasses()
+                        .ignoreClassVisibility()
+                        .acceptPackagesNonRecursive(packages)
+                        .scan()) {
+
+            final ResourceList classFiles = scanResult.getAllResources().classFilesOnly();
+            final Set<URI> testLocations = testLocations(target);
+
+            checkNoDuplicateClasses(
+                    moduleUnderTest.getName(), classFiles, testLocations, scanResult);
+
+            if (named) {
+                checkNoSplitPackages(
+                        moduleUnderTest.getName(), classFiles, testLocations, scanResult);
+            }
+        }
+    }
+
+    private void checkNoDuplicateClasses(
+            final String moduleName,
+            final ResourceList classFiles,
+            final Set<URI> testLocations,
+            final ScanResult scanResult) {
+        final String duplicates =
+                classFiles.findDuplicatePaths().stream()
+                        .filter(e -> notExcluded(className(e.getKey()), scanResult))
+                        .map(e -> Map.entry(e.getKey(), locations(e.getValue(), testLocations)))
+                        .filter(e -> e.getValue().size() > 1)
+                        .map(e -> className(e.getKey()) + ": " + e.getValue())
+                        .sorted()
+                        .collect(joining(NL_INDENT));
+
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateClassesException(moduleName, duplicates);
+        }
+    }
+
+    private void checkNoSplitPackages(
+            final String moduleName,
+            final ResourceList classFiles,
+            final Set<URI> testLocations,
+            final ScanResult scanResult) {
+        final Map<String, List<Resource>> byPackage =
+                classFiles.stream()
+                        .filter(r -> notExcluded(className(r.getPath()), scanResult))
+                        .collect(groupingBy(r -> packageName(r.getPath()), TreeMap::new, toList()));
+
+        final String split =
+                byPackage.entrySet().stream()
+                        .map(e -> Map.entry(e.getKey(), locations(e.getValue(), testLocations)))
+                        .filter(e -> e.getValue().size() > 1)
+                        .map(e -> e.getKey() + ": " + e.getValue())
+                        .collect(joining(NL_INDENT));
+
+        if (!split.isEmpty()) {
+            throw new SplitPackagesException(moduleName, split);
+        }
+    }
+
+    private boolean notExcluded(final String className, final ScanResult scanResult) {
+        if (classPatternFilter.isExcluded(className)) {
+            return false;
+        }
+
+        final ClassInfo classInfo = scanResult.getClassInfo(className);
+        return classInfo == null || classFilter.notExcluded(classInfo);
+    }
+
+    /**
+     * Test classes, and any helpers compiled alongside them, may be patched into the module's
+     * packages at test time. Their locations are found via the test classes in the module.
+     */
+    private Set<URI> testLocations(final CheckTarget target) {
+        return target.types()
+                .classes()
+                .filter(ci -> testClassFilter.isExcluded(ci.getName()))
+                .map(ClassInfo::getClasspathElementURI)
+                .collect(toSet());
+    }
+
+    private static Stream<String> exportedPackages(final Module moduleUnderTest) {
+        return moduleUnderTest.getDescriptor().exports().stream()
+                .map(ModuleDescriptor.Exports::source);
+    }
+
+    private static Stream<String> jarPackages(final CheckTarget target) {
+        return target.types().classes().map(ClassInfo::getPackageName);
+    }
+
+    private static Set<String> locations(
+            final Collection<Resource> resources, final Set<URI> excluded) {
+        return resources.stream()
+                .map(Resource::getClasspathElementURI)
+                .filter(uri -> !excluded.contains(uri))
+                .map(String::valueOf)
+                .collect(toCollection(TreeSet::new));
+    }
+
+    private static String className(final String classFilePath) {
+        return classFilePath
+                .substring(0, classFilePath.length() - CLASS_FILE_EXT.length())
+                .replace('/', '.');
+    }
+
+    private static String packageName(final String classFilePath) {
+        final int i = classFilePath.lastIndexOf('/');
+        return i == -1 ? "" : classFilePath.substring(0, i).replace('/', '.');
+    }
+
+    /** Options to configure this check */
+    public static final class Options implements CheckNoDuplicateClasses {
+
+        private final PackageFilter.Builder packageFilter = PackageFilter.builder();
+        private final ClassFilter.Builder classFilter = ClassFilter.builder();
+        private final ClassPatternFilter.Builder classPatternFilter = ClassPatternFilter.builder();
+        private boolean excludeTestClasses = true;
+
+        @Override
+        public Options withExcludedPackages(
+                final String justification, final String... packageNames) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+            Arrays.stream(packageNames).forEach(packageFilter::addExclude);
+            return this;
+        }
+
+        @Override
+        public Options withExcludedClasses(
+                final String justification,
+                final boolean excludeSubtypes,
+                final Class<?>... classes) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+
+            Arrays.stream(classes).forEach(c -> classFilter.addExclude(c, excludeSubtypes));
+            return this;
+        }
+
+        @Override
+        public Options withExcludedClassPattern(final String justification, final Pattern pattern) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+
+            classPatternFilter.addExclude(pattern);
+            return this;
+        }
+
+        @Override
+        public Options withoutExcludedTestClassPattern(final String justification) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+
+            excludeTestClasses = false;
+            return this;
+        }
+    }
+
+    private static final class DuplicateClassesException extends RuntimeException {
+
+        DuplicateClassesException(final String moduleName, final String duplicates) {
+            super(
+                    "Classes in exported packages are defined in more than one location on the"
+                            + " class or module path. module="
+                            + moduleName
+                            + ", duplicate_classes=["
+                            + NL_INDENT
+                            + duplicates
+                            + System.lineSeparator()
+                            + "]");
+        }
+    }
+
+    private static final class SplitPackagesException extends RuntimeException {
+
+        SplitPackagesException(final String moduleName, final String split) {
+            super(
+                    "Exported packages are split across more than one location on the"
+                            + " class or module path. module="
+                            + moduleName
+                            + ", split_packages=["
+                            + NL_INDENT
+                            + split
+                            + System.lineSeparator()
+                            + "]");
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.creekservice.internal.test.conformity.Constants.API_PACKAGE;
+
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.Resource;
+import io.github.classgraph.ScanResult;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.creekservice.api.test.conformity.check.CheckNoFinalizers;
+import org.creekservice.internal.test.conformity.CheckTarget;
+import org.creekservice.internal.test.conformity.filter.ClassFilter;
+import org.creekservice.internal.test.conformity.filter.ClassPatternFilter;
+import org.creekservice.internal.test.conformity.filter.PackageFilter;
+
+/**
+ * Checks no types in the module override {@code finalize()}, and no API types register with a
+ * {@link java.lang.ref.Cleaner} from their constructors.
+ */
+public final class NoFinalizersCheck implements CheckRunner {
+
+    private static final String NL_INDENT = System.lineSeparator() + "\t";
+    private static final String CLEANER = "java/lang/ref/Cleaner";
+
+    private final PackageFilter packageFilter;
+    private final ClassFilter classFilter;
+    private final ClassPatternFilter classPatternFilter;
+
+    /**
+     * @param options options to control behaviour
+     */
+    public NoFinalizersCheck(final Options options) {
+        this.packageFilter = requireNonNull(options, "options").packageFilter.build();
+        this.classFilter = options.classFilter.build();
+        this.classPatternFilter = options.classPatternFilter.build(options.excludeTestClasses);
+    }
+
+    @Override
+    public String name() {
+        return CheckNoFinalizers.class.getSimpleName();
+    }
+
+    @Override
+    public void check(final CheckTarget target) {
+        // Own scan, as the shared scan does not include non-public methods, e.g. finalize():
+        try (ScanResult scanResult =
+                target.scan(classGraph -> classGraph.ignoreMethodVisibility())) {
+            final List<ClassInfo> classes =
+                    scanResult.getAllClasses().stream()
+                            .filter(ci -> !ci.isInterface())
+                            .filter(this::notExcluded)
+                            .collect(toList());
+
+            final String finalizers =
+                    classes.stream()
+                            .filter(NoFinalizersCheck::hasFinalizer)
+                            .map(ClassInfo::getName)
+                            .collect(joining(NL_INDENT));
+
+            final String cleaners =
+                    classes.stream()
+                            .filter(ci -> ci.getPackageName().startsWith(API_PACKAGE))
+                            .filter(NoFinalizersCheck::registersWithCleaner)
+                            .map(ClassInfo::getName)
+                            .collect(joining(NL_INDENT));
+
+            if (!finalizers.isEmpty() || !cleaners.isEmpty()) {
+                throw new FinalizationException(
+                        target.moduleUnderTest().getName(), finalizers, cleaners);
+            }
+        }
+    }
+
+    private boolean notExcluded(final ClassInfo ci) {
+        return packageFilter.notExcluded(ci.getPackageName())
+                && classFilter.notExcluded(ci)
+                && classPatternFilter.notExcluded(ci.getName());
+    }
+
+    /** A static {@code finalize()} does not override {@link Object#finalize()}, so is harmless. */
+    private static boolean hasFinalizer(final ClassInfo ci) {
+        return ci.getDeclaredMethodInfo("finalize").stream()
+                .anyMatch(
+                        method ->
+                                method.getParameterInfo().length == 0
+                                        && !method.isStatic()
+                                        && !method.isAbstract());
+    }
+
+    private static boolean registersWithCleaner(final ClassInfo ci) {
+        final Resource resource = ci.getResource();
+        try {
+            return ConstructorInvocations.anyInvoke(resource.load(), CLEANER, "register");
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read class file of " + ci.getName(), e);
+        } finally {
+            resource.close();
+        }
+    }
+
+    /** Options to configure this check */
+    public static final class Options implements CheckNoFinalizers {
+
+        private final PackageFilter.Builder packageFilter = PackageFilter.builder();
+        private final ClassFilter.Builder classFilter = ClassFilter.builder();
+        private final ClassPatternFilter.Builder classPatternFilter = ClassPatternFilter.builder();
+        private boolean excludeTestClasses = true;
+
+        @Override
+        public Options withExcludedPackages(
+                final String justification, final String... packageNames) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+            Arrays.stream(packageNames).forEach(packageFilter::addExclude);
+            return this;
+        }
+
+        @Override
+        public Options withExcludedClasses(
+                final String justification,
+                final boolean excludeSubtypes,
+                final Class<?>... classes) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+
+            Arrays.stream(classes).forEach(c -> classFilter.addExclude(c, excludeSubtypes));
+            return this;
+        }
+
+        @Override
+        public Options withExcludedClassPattern(final String justification, final Pattern pattern) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+
+            classPatternFilter.addExclude(pattern);
+            return this;
+        }
+
+        @Override
+        public Options withoutExcludedTestClassPattern(final String justification) {
+            if (justification.isBlank()) {
+                throw new IllegalArgumentException("justification can not be blank.");
+            }
+
+            excludeTestClasses = false;
+            return this;
+        }
+    }
+
+    private static final class FinalizationException extends RuntimeException {
+
+        FinalizationException(
+                final String moduleName, final String finalizers, final String cleaners) {
+            super(message(moduleName, finalizers, cleaners));
+        }
+
+        private static String message(
+                final String moduleName, final String finalizers, final String cleaners) {
+            final List<String> reasons = new ArrayList<>(2);
+            if (!finalizers.isEmpty()) {
+                reasons.add(
+                        "Types should not override finalize(). Use AutoCloseable instead."
+                                + " module: "
+                                + moduleName
+                                + ", types: "
+                                + finalizers);
+            }
+            if (!cleaners.isEmpty()) {
+                reasons.add(
+                        "API types should not register with a Cleaner from their constructors."
+                                + " Use AutoCloseable instead."
+                                + " module: "
+                                + moduleName
+                                + ", types: "
+                                + cleaners);
+            }
+            return String.join(System.lineSeparator(), reasons);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.creekservice.internal.test.conformity.filter;
 
 import static java.util.Objects.requireNonNull;
 
+import io.github.classgraph.ClassInfo;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -26,7 +27,7 @@ import java.util.function.Predicate;
 /** Filter for excluding classes. */
 public final class ClassFilter {
 
-    private final List<Predicate<Class<?>>> excluded;
+    private final List<Exclusion> excluded;
 
     /**
      * Factory method for creating a new filter builder.
@@ -37,7 +38,7 @@ public final class ClassFilter {
         return new Builder();
     }
 
-    private ClassFilter(final List<Predicate<Class<?>>> excluded) {
+    private ClassFilter(final List<Exclusion> excluded) {
         this.excluded = List.copyOf(requireNonNull(excluded, "excluded"));
     }
 
@@ -51,6 +52,16 @@ public final class ClassFilter {
         return excluded.stream().anyMatch(predicate -> predicate.test(type));
     }
 
+    /**
+     * Test if a type <i>is</i> excluded, without the need to load the type.
+     *
+     * @param classInfo the type's class info.
+     * @return {@code true} if excluded.
+     */
+    public boolean isExcluded(final ClassInfo classInfo) {
+        return excluded.stream().anyMatch(exclusion -> exclusion.matches(classInfo));
+    }
+
     /**
      * Test if a type is <i>not</i> excluded.
      *
@@ -61,6 +72,16 @@ public final class ClassFilter {
         return !isExcluded(type);
     }
 
+    /**
+     * Test if a type is <i>not</i> excluded, without the need to load the type.
+     *
+     * @param classInfo the type's class info.
+     * @return {@code false} if excluded.
+     */
+    public boolean notExcluded(final ClassInfo classInfo) {
+        return !isExcluded(classInfo);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -86,7 +107,7 @@ public final class ClassFilter {
     /** Filter builder */
     public static final class Builder {
 
-        private final List<Predicate<Class<?>>> excluded = new ArrayList<>();
+        private final List<Exclusion> excluded = new ArrayList<>();
 
         private Builder() {}
 
@@ -109,7 +130,11 @@ public final class ClassFilter {
         }
     }
 
-    private static final class ExcludedType implements Predicate<Class<?>> {
+    private interface Exclusion extends Predicate<Class<?>> {
+        boolean matches(ClassInfo classInfo);
+    }
+
+    private static final class ExcludedType implements Exclusion {
 
         private final Class<?> excludedType;
 
@@ -122,6 +147,11 @@ public final class ClassFilter {
             return Objects.equals(excludedType, testType);
         }
 
+        @Override
+        public boolean matches(final ClassInfo classInfo) {
+            return excludedType.getName().equals(classInfo.getName());
+        }
+
         @Override
         public boolean equals(final Object o) {
             if (!(o instanceof ExcludedType)) {
@@ -142,7 +172,7 @@ public final class ClassFilter {
         }
     }
 
-    private static final class ExcludedHierarchy implements Predicate<Class<?>> {
+    private static final class ExcludedHierarchy implements Exclusion {
 
         private final Class<?> excludedType;
 
@@ -155,6 +185,15 @@ public final class ClassFilter {
             return excludedType.isAssignableFrom(testType);
         }
 
+        @Override
+        public boolean matches(final ClassInfo classInfo) {
+            final String name = excludedType.getName();
+            return name.equals(classInfo.getName())
+                    || (excludedType.isInterface()
+                            ? classInfo.implementsInterface(name)
+                            : classInfo.extendsSuperclass(name));
+        }
+
         @Override
         public boolean equals(final Object o) {
             if (!(o instanceof ExcludedHierarchy)) {
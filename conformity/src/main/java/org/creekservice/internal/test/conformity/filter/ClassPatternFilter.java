@@ -49,7 +49,17 @@ public final class ClassPatternFilter {
      * @return {@code true} if excluded.
      */
     public boolean isExcluded(final Class<?> type) {
-        return excluded.matcher(type.getName()).matches();
+        return isExcluded(type.getName());
+    }
+
+    /**
+     * Test if a type <i>is</i> excluded, without the need to load the type.
+     *
+     * @param className the fully qualified class name.
+     * @return {@code true} if excluded.
+     */
+    public boolean isExcluded(final String className) {
+        return excluded.matcher(className).matches();
     }
 
     /**
@@ -62,6 +72,16 @@ public final class ClassPatternFilter {
         return !isExcluded(type);
     }
 
+    /**
+     * Test if a type is <i>not</i> excluded, without the need to load the type.
+     *
+     * @param className the fully qualified class name.
+     * @return {@code false} if excluded.
+     */
+    public boolean notExcluded(final String className) {
+        return !isExcluded(className);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
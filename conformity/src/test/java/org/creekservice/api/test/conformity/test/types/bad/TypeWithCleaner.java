@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.conformity.test.types.bad;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.lang.ref.Cleaner;
+
+/**
+ * An API type that registers itself with a {@link Cleaner} on construction, rather than overriding
+ * {@code finalize()}.
+ *
+ * <p>Hence, {@link org.creekservice.internal.test.conformity.check.NoFinalizersCheck} should report
+ * this type.
+ */
+@SuppressWarnings("unused") // Accessed by reflection / ClassGraph.
+public final class TypeWithCleaner {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    @SuppressFBWarnings("URF_UNREAD_FIELD")
+    private final Cleaner.Cleanable cleanable;
+
+    private TypeWithCleaner() {
+        this.cleanable = CLEANER.register(this, () -> {});
+    }
+}
@@ -26,6 +26,8 @@ import org.creekservice.api.test.conformity.ConformityTester;
 import org.creekservice.api.test.conformity.check.CheckConstructorsPrivate;
 import org.creekservice.api.test.conformity.check.CheckExportedPackages;
 import org.creekservice.api.test.conformity.check.CheckModule;
+import org.creekservice.api.test.conformity.check.CheckModuleDependencies;
+import org.creekservice.api.test.conformity.check.CheckNoFinalizers;
 import org.creekservice.api.test.conformity.check.ConformityCheck;
 import org.creekservice.api.test.conformity.test.types.bad.NotExported;
 import org.creekservice.api.test.conformity.test.types.bad.PublicSubTypeWithPublicConstructor;
@@ -102,6 +104,25 @@ class DefaultConformityTesterTest {
         // Then: did not throw
     }
 
+    @Test
+    void shouldRunOptInChecks() {
+        // Given:
+        final ConformityTester tester =
+                ConformityTester.builder(ConformityTester.class)
+                        .withExcludedPackages(
+                                "deliberately bad test classes",
+                                "org.creekservice.api.test.conformity.test.types.bad")
+                        .withCustom(CheckModuleDependencies.builder().withMaxDepth("testing", 0));
+
+        // When:
+        final Error e = assertThrows(AssertionError.class, tester::check);
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith("Conformity check failed. check: CheckModuleDependencies, reason: "));
+    }
+
     @Test
     void shouldCustomiseChecksUsingClassPattern() {
         // Given:
@@ -137,6 +158,27 @@ class DefaultConformityTesterTest {
                                 + " reason: API types should not have public constructors"));
     }
 
+    @Test
+    void shouldDetectFinalizers() {
+        // Given:
+        final ConformityTester tester =
+                ConformityTester.builder(ConformityTester.class)
+                        .withDisabled("Not testing this one", CheckExportedPackages.builder())
+                        .withDisabled("Not testing this one", CheckConstructorsPrivate.builder())
+                        .withDisabled("Not testing this one", CheckModule.builder())
+                        .withCustom(CheckNoFinalizers.builder());
+
+        // When:
+        final Error e = assertThrows(AssertionError.class, tester::check);
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Conformity check failed. check: CheckNoFinalizers,"
+                                + " reason: Types should not override finalize()"));
+    }
+
     @Test
     void shouldDisableChecks() {
         // Given:
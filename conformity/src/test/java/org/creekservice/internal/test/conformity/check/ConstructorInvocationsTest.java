@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class ConstructorInvocationsTest {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final String OWNER = "java/lang/ref/Cleaner";
+
+    @Test
+    void shouldFindInvocationInConstructor() throws Exception {
+        assertThat(invokes(RegistersInConstructor.class, "register"), is(true));
+    }
+
+    @Test
+    void shouldFindInvocationAfterSwitches() throws Exception {
+        assertThat(invokes(RegistersAfterSwitches.class, "register"), is(true));
+    }
+
+    @Test
+    void shouldIgnoreInvocationOutsideConstructors() throws Exception {
+        assertThat(invokes(RegistersInMethod.class, "register"), is(false));
+    }
+
+    @Test
+    void shouldIgnoreOtherMethods() throws Exception {
+        assertThat(invokes(RegistersInConstructor.class, "clean"), is(false));
+    }
+
+    @Test
+    void shouldThrowIfNotClassFile() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConstructorInvocations.anyInvoke(new byte[] {1, 2, 3, 4}, OWNER, "register"));
+    }
+
+    @Test
+    void shouldThrowIfTruncated() throws Exception {
+        // Given:
+        final byte[] bytes = bytes(RegistersInConstructor.class);
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        // Then:
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ConstructorInvocations.anyInvoke(truncated, OWNER, "register"));
+    }
+
+    private static boolean invokes(final Class<?> type, final String method) throws IOException {
+        return ConstructorInvocations.anyInvoke(bytes(type), OWNER, method);
+    }
+
+    private static byte[] bytes(final Class<?> type) throws IOException {
+        final String name = type.getName().substring(type.getPackageName().length() + 1);
+        try (InputStream in = type.getResourceAsStream(name + ".class")) {
+            return in.readAllBytes();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class RegistersInConstructor {
+
+        private final Cleaner.Cleanable cleanable;
+
+        RegistersInConstructor() {
+            this.cleanable = CLEANER.register(this, () -> {});
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class RegistersAfterSwitches {
+
+        private final Cleaner.Cleanable cleanable;
+
+        RegistersAfterSwitches(final int dense, final int sparse) {
+            long value = 123_456_789_012L;
+            switch (dense) {
+                case 0:
+                    value += 1;
+                    break;
+                case 1:
+                    value += 2;
+                    break;
+                case 2:
+                    value += 3;
+                    break;
+                default:
+                    break;
+            }
+            switch (sparse) {
+                case 1:
+                    value *= 2;
+                    break;
+                case 1_000:
+                    value *= 3;
+                    break;
+                case 1_000_000:
+                    value *= 4;
+                    break;
+                default:
+                    break;
+            }
+            final long captured = value;
+            this.cleanable = CLEANER.register(this, () -> System.out.println(captured));
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class RegistersInMethod {
+
+        private Cleaner.Cleanable cleanable;
+
+        RegistersInMethod() {}
+
+        void register() {
+            this.cleanable = CLEANER.register(this, () -> {});
+        }
+    }
+}
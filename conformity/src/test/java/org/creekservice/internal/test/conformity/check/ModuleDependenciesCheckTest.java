@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleDescriptor.Requires.Modifier;
+import java.util.Optional;
+import java.util.Set;
+import org.creekservice.internal.test.conformity.CheckTarget;
+import org.creekservice.internal.test.conformity.check.ModuleDependenciesCheck.Options;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ModuleDependenciesCheckTest {
+
+    private static final Set<Modifier> TRANSITIVE = Set.of(Modifier.TRANSITIVE);
+
+    @Mock private CheckTarget ctx;
+    @Mock private Module moduleUnderTest;
+    @Mock private ModuleLayer layer;
+    private CheckRunner check;
+
+    @BeforeEach
+    void setUp() {
+        check = new ModuleDependenciesCheck(new Options());
+
+        when(ctx.moduleUnderTest()).thenReturn(moduleUnderTest);
+        when(moduleUnderTest.isNamed()).thenReturn(true);
+        when(moduleUnderTest.getLayer()).thenReturn(layer);
+        when(layer.findModule(anyString())).thenReturn(Optional.empty());
+
+        // Graph:  root -t-> a -t-> b -> c -> d
+        //              \-> e
+        givenModule(
+                ModuleDescriptor.newModule("root")
+                        .requires(TRANSITIVE, "a")
+                        .requires("e")
+                        .requires("not.resolved")
+                        .build());
+        givenModule(ModuleDescriptor.newModule("a").requires(TRANSITIVE, "b").build());
+        givenModule(ModuleDescriptor.newModule("b").requires("c").build());
+        givenModule(ModuleDescriptor.newModule("c").requires("d").build());
+        givenModule(ModuleDescriptor.newModule("d").build());
+        givenModule(ModuleDescriptor.newModule("e").build());
+
+        final ModuleDescriptor root = layer.findModule("root").orElseThrow().getDescriptor();
+        when(moduleUnderTest.getDescriptor()).thenReturn(root);
+        when(moduleUnderTest.getName()).thenReturn("root");
+    }
+
+    @Test
+    void shouldPassIfWithinBudget() {
+        // When:
+        check.check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldPassIfExactlyOnBudget() {
+        // Given:
+        check =
+                new ModuleDependenciesCheck(
+                        new Options()
+                                .withMaxTransitiveFanOut("testing", 2)
+                                .withMaxDepth("testing", 4));
+
+        // When:
+        check.check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldFailIfTransitiveFanOutExceedsBudget() {
+        // Given:
+        check = new ModuleDependenciesCheck(new Options().withMaxTransitiveFanOut("testing", 1));
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(ctx));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is(
+                        "Module dependency graph exceeds budget. module: root,"
+                                + " transitive_fan_out: 2, budget: 1, paths: ["
+                                + System.lineSeparator()
+                                + "\troot -> a -> b"
+                                + System.lineSeparator()
+                                + "\troot -> a"
+                                + System.lineSeparator()
+                                + "]"));
+    }
+
+    @Test
+    void shouldFailIfDepthExceedsBudget() {
+        // Given:
+        check = new ModuleDependenciesCheck(new Options().withMaxDepth("testing", 3));
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(ctx));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is(
+                        "Module dependency graph exceeds budget. module: root,"
+                                + " depth: 4, budget: 3, paths: ["
+                                + System.lineSeparator()
+                                + "\troot -> a -> b -> c -> d"
+                                + System.lineSeparator()
+                                + "\troot -> e"
+                                + System.lineSeparator()
+                                + "]"));
+    }
+
+    @Test
+    void shouldIgnoreMandatedJavaBase() {
+        // Given:
+        givenModule(ModuleDescriptor.newModule("java.base").build());
+        check = new ModuleDependenciesCheck(new Options().withMaxDepth("testing", 4));
+
+        // When:
+        check.check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldLimitReportedPaths() {
+        // Given:
+        final ModuleDescriptor.Builder root = ModuleDescriptor.newModule("wide");
+        for (int i = 0; i != 12; ++i) {
+            root.requires(TRANSITIVE, "m" + i);
+            givenModule(ModuleDescriptor.newModule("m" + i).build());
+        }
+        when(moduleUnderTest.getDescriptor()).thenReturn(root.build());
+
+        check = new ModuleDependenciesCheck(new Options().withMaxTransitiveFanOut("testing", 1));
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(ctx));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("transitive_fan_out: 12, budget: 1"));
+        assertThat(e.getMessage(), containsString("wide -> m7"));
+        assertThat(e.getMessage(), not(containsString("wide -> m9")));
+        assertThat(e.getMessage(), containsString("... and 2 more"));
+    }
+
+    @Test
+    void shouldIgnoreUnnamedModules() {
+        // Given:
+        when(moduleUnderTest.isNamed()).thenReturn(false);
+        check = new ModuleDependenciesCheck(new Options().withMaxDepth("testing", 0));
+
+        // When:
+        check.check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldIgnoreAutomaticModules() {
+        // Given:
+        when(moduleUnderTest.getDescriptor())
+                .thenReturn(ModuleDescriptor.newAutomaticModule("auto").build());
+        check = new ModuleDependenciesCheck(new Options().withMaxDepth("testing", 0));
+
+        // When:
+        check.check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldPassForThisModule() {
+        // Given:
+        try (CheckTarget target = new CheckTarget(ModuleDependenciesCheckTest.class)) {
+
+            // When:
+            new ModuleDependenciesCheck(new Options()).check(target);
+        }
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldThrowOnEmptyJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withMaxTransitiveFanOut(" ", 1));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrowOnNegativeBudget() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class, () -> options.withMaxDepth("testing", -1));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("max can not be negative"));
+    }
+
+    private void givenModule(final ModuleDescriptor descriptor) {
+        final Module module = mock(Module.class);
+        when(module.getDescriptor()).thenReturn(descriptor);
+        when(layer.findModule(descriptor.name())).thenReturn(Optional.of(module));
+    }
+}
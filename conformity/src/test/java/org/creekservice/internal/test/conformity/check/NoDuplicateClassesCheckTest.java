@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.creekservice.api.test.conformity.test.types.bad.TypeWithCleaner;
+import org.creekservice.api.test.conformity.test.types.bad.TypeWithFinalizer;
+import org.creekservice.internal.test.conformity.CheckTarget;
+import org.creekservice.internal.test.conformity.ModuleTypes;
+import org.creekservice.internal.test.conformity.check.NoDuplicateClassesCheck.Options;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NoDuplicateClassesCheckTest {
+
+    private static final String BAD_PACKAGE = TypeWithFinalizer.class.getPackageName();
+
+    @TempDir private Path tempDir;
+    @Mock private CheckTarget ctx;
+    @Mock private Module moduleUnderTest;
+    @Mock private ModuleTypes types;
+    private Path jarA;
+    private Path jarB;
+
+    @BeforeEach
+    void setUp() {
+        jarA = tempDir.resolve("a");
+        jarB = tempDir.resolve("b");
+
+        when(ctx.moduleUnderTest()).thenReturn(moduleUnderTest);
+        when(ctx.types()).thenReturn(types);
+        when(moduleUnderTest.getName()).thenReturn("Bob");
+        when(moduleUnderTest.isNamed()).thenReturn(true);
+        when(moduleUnderTest.getDescriptor())
+                .thenReturn(ModuleDescriptor.newModule("Bob").exports(BAD_PACKAGE).build());
+    }
+
+    @Test
+    void shouldPassForThisModule() {
+        // Given:
+        try (CheckTarget target = new CheckTarget(NoDuplicateClassesCheckTest.class)) {
+
+            // When:
+            new NoDuplicateClassesCheck(new Options()).check(target);
+        }
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldPassIfNoDuplicates() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+
+        // When:
+        check(new Options()).check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldDetectDuplicateClasses() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithFinalizer.class);
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> check(new Options()).check(ctx));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Classes in exported packages are defined in more than one location on"
+                                + " the class or module path. module=Bob, duplicate_classes=["));
+        assertThat(e.getMessage(), matchesPattern(locations(TypeWithFinalizer.class.getName())));
+    }
+
+    @Test
+    void shouldDetectSplitPackages() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithCleaner.class);
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> check(new Options()).check(ctx));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Exported packages are split across more than one location on"
+                                + " the class or module path. module=Bob, split_packages=["));
+        assertThat(e.getMessage(), matchesPattern(locations(BAD_PACKAGE)));
+    }
+
+    @Test
+    void shouldNotCheckSplitPackagesOfUnnamedModules() {
+        // Given:
+        when(moduleUnderTest.isNamed()).thenReturn(false);
+        final ClassInfo classInfo = mock(ClassInfo.class);
+        when(classInfo.getName()).thenReturn(TypeWithFinalizer.class.getName());
+        when(classInfo.getPackageName()).thenReturn(BAD_PACKAGE);
+        when(types.classes()).thenAnswer(inv -> Stream.of(classInfo));
+
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithCleaner.class);
+
+        // When:
+        check(new Options()).check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldCheckDuplicateClassesOfUnnamedModules() {
+        // Given:
+        when(moduleUnderTest.isNamed()).thenReturn(false);
+        final ClassInfo classInfo = mock(ClassInfo.class);
+        when(classInfo.getName()).thenReturn(TypeWithFinalizer.class.getName());
+        when(classInfo.getPackageName()).thenReturn(BAD_PACKAGE);
+        when(types.classes()).thenAnswer(inv -> Stream.of(classInfo));
+
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithFinalizer.class);
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> check(new Options()).check(ctx));
+
+        // Then:
+        assertThat(e.getMessage(), containsString(TypeWithFinalizer.class.getName()));
+    }
+
+    @Test
+    void shouldIgnoreTestLocations() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithCleaner.class);
+        givenClassFile(jarB, TypeWithFinalizer.class);
+
+        final ClassInfo testClass = mock(ClassInfo.class);
+        when(testClass.getName()).thenReturn(BAD_PACKAGE + ".SomeTest");
+        when(testClass.getClasspathElementURI()).thenReturn(location(jarB));
+        when(types.classes()).thenAnswer(inv -> Stream.of(testClass));
+
+        // When:
+        check(new Options()).check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldExcludeByPackage() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithFinalizer.class);
+
+        // When:
+        check(new Options().withExcludedPackages("testing", BAD_PACKAGE)).check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldExcludeByType() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithFinalizer.class);
+
+        final Options options = new Options();
+        options.withExcludedClasses("testing", TypeWithFinalizer.class);
+
+        // When:
+        check(options).check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldExcludeByClassPattern() {
+        // Given:
+        givenClassFile(jarA, TypeWithFinalizer.class);
+        givenClassFile(jarB, TypeWithCleaner.class);
+
+        final Options options = new Options();
+        options.withExcludedClassPattern("testing", ".*\\.TypeWithCleaner");
+
+        // When:
+        check(options).check(ctx);
+
+        // Then: passed
+    }
+
+    @Test
+    void shouldThrownOnEmptyPackageJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withExcludedPackages(" ", "org.creekservice.api.a"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrownOnEmptyClassJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withExcludedClasses(" ", getClass()));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrownOnEmptyClassPatternJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withExcludedClassPattern(" ", ".*"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrownOnEmptyTestJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withoutExcludedTestClassPattern("\t"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    private NoDuplicateClassesCheck check(final Options options) {
+        return new NoDuplicateClassesCheck(
+                options, () -> new ClassGraph().overrideClasspath(jarA, jarB));
+    }
+
+    private static Pattern locations(final String name) {
+        return Pattern.compile(
+                ".*" + Pattern.quote(name) + ": \\[file:[^,]*/a/?, file:[^,]*/b/?].*",
+                Pattern.DOTALL);
+    }
+
+    private static URI location(final Path root) {
+        try (ScanResult scanResult = new ClassGraph().overrideClasspath(root).scan()) {
+            return scanResult.getAllResources().get(0).getClasspathElementURI();
+        }
+    }
+
+    private static void givenClassFile(final Path root, final Class<?> type) {
+        final String relative = type.getName().replace('.', '/') + ".class";
+        final Path path = root.resolve(relative);
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            Files.createDirectories(path.getParent());
+            Files.copy(in, path);
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.test.conformity.check;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.creekservice.api.test.conformity.test.types.bad.PublicRecord;
+import org.creekservice.api.test.conformity.test.types.bad.TypeWithCleaner;
+import org.creekservice.api.test.conformity.test.types.bad.TypeWithFinalizer;
+import org.creekservice.internal.test.conformity.CheckTarget;
+import org.creekservice.internal.test.conformity.check.NoFinalizersCheck.Options;
+import org.creekservice.internal.test.conformity.test.types.bad.InternalTypeWithFinalizer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NoFinalizersCheckTest {
+
+    private static CheckTarget target;
+    private CheckRunner check;
+
+    @BeforeAll
+    static void beforeAll() {
+        target = new CheckTarget(NoFinalizersCheckTest.class);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        target.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        check = new NoFinalizersCheck(new Options());
+    }
+
+    @Test
+    void shouldDetectFinalizer() {
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(target));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                startsWith(
+                        "Types should not override finalize(). Use AutoCloseable instead."
+                                + " module: creek.test.conformity,"
+                                + " types:"));
+
+        assertThat(e.getMessage(), containsString(TypeWithFinalizer.class.getName()));
+    }
+
+    @Test
+    void shouldDetectFinalizerInNonApiType() {
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(target));
+
+        // Then:
+        assertThat(e.getMessage(), containsString(InternalTypeWithFinalizer.class.getName()));
+    }
+
+    @Test
+    void shouldDetectApiTypeRegisteringWithCleanerInConstructor() {
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(target));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString(
+                        System.lineSeparator()
+                                + "API types should not register with a Cleaner from their"
+                                + " constructors. Use AutoCloseable instead."
+                                + " module: creek.test.conformity,"
+                                + " types: "
+                                + TypeWithCleaner.class.getName()));
+    }
+
+    @Test
+    void shouldNotReportTypesWithoutFinalizerOrCleaner() {
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(target));
+
+        // Then:
+        assertThat(e.getMessage(), not(containsString(PublicRecord.class.getName())));
+    }
+
+    @Test
+    void shouldExcludeTypesRegisteringWithCleaner() {
+        // Given:
+        final Options options = new Options();
+        options.withExcludedClasses("testing", TypeWithCleaner.class);
+        check = new NoFinalizersCheck(options);
+
+        // When:
+        final Exception e = assertThrows(RuntimeException.class, () -> check.check(target));
+
+        // Then:
+        assertThat(e.getMessage(), not(containsString("Cleaner")));
+    }
+
+    @Test
+    void shouldExcludeByPackage() {
+        // Given:
+        check =
+                new NoFinalizersCheck(
+                        new Options()
+                                .withExcludedPackages(
+                                        "testing",
+                                        TypeWithFinalizer.class.getPackageName(),
+                                        InternalTypeWithFinalizer.class.getPackageName()));
+
+        // When:
+        check.check(target);
+
+        // Then: did not fail.
+    }
+
+    @Test
+    void shouldExcludeByType() {
+        // Given:
+        final Options options = new Options();
+        options.withExcludedClasses(
+                "testing",
+                TypeWithFinalizer.class,
+                InternalTypeWithFinalizer.class,
+                TypeWithCleaner.class);
+        check = new NoFinalizersCheck(options);
+
+        // When:
+        check.check(target);
+
+        // Then: did not fail.
+    }
+
+    @Test
+    void shouldExcludeByClassPattern() {
+        // Given:
+        final Options options = new Options();
+        options.withExcludedClassPattern("testing", ".*\\.(Internal)?TypeWith(Finalizer|Cleaner)");
+        check = new NoFinalizersCheck(options);
+
+        // When:
+        check.check(target);
+
+        // Then: did not fail.
+    }
+
+    @Test
+    void shouldThrownOnEmptyPackageJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withExcludedPackages(" ", "org.creekservice.api.a"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrownOnEmptyClassJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withExcludedClasses(" ", getClass()));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrownOnEmptyClassPatternJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withExcludedClassPattern(" ", ".*"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+
+    @Test
+    void shouldThrownOnEmptyTestJustification() {
+        // Given:
+        final Options options = new Options();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> options.withoutExcludedTestClassPattern("\t"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("justification can not be blank"));
+    }
+}
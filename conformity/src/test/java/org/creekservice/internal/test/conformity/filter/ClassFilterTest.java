@@ -19,8 +19,11 @@ package org.creekservice.internal.test.conformity.filter;
 import static org.creekservice.internal.test.conformity.filter.ClassFilter.builder;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.google.common.testing.EqualsTester;
+import io.github.classgraph.ClassInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +78,45 @@ class ClassFilterTest {
         assertThat(filter.isExcluded(Number.class), is(true));
         assertThat(filter.isExcluded(Double.class), is(true));
     }
+
+    @Test
+    void shouldExcludeExactClassInfo() {
+        // Given:
+        final ClassFilter filter = builder.addExclude(Number.class, false).build();
+
+        // Then:
+        assertThat(filter.isExcluded(classInfo(Number.class.getName())), is(true));
+        assertThat(filter.notExcluded(classInfo(Double.class.getName())), is(true));
+    }
+
+    @Test
+    void shouldExcludeSubclassClassInfo() {
+        // Given:
+        final ClassFilter filter = builder.addExclude(Number.class, true).build();
+        final ClassInfo subclass = classInfo("a.Sub");
+        when(subclass.extendsSuperclass(Number.class.getName())).thenReturn(true);
+
+        // Then:
+        assertThat(filter.isExcluded(classInfo(Number.class.getName())), is(true));
+        assertThat(filter.isExcluded(subclass), is(true));
+        assertThat(filter.isExcluded(classInfo("a.Other")), is(false));
+    }
+
+    @Test
+    void shouldExcludeImplementationClassInfo() {
+        // Given:
+        final ClassFilter filter = builder.addExclude(Runnable.class, true).build();
+        final ClassInfo impl = classInfo("a.Impl");
+        when(impl.implementsInterface(Runnable.class.getName())).thenReturn(true);
+
+        // Then:
+        assertThat(filter.isExcluded(impl), is(true));
+        assertThat(filter.isExcluded(classInfo("a.Other")), is(false));
+    }
+
+    private static ClassInfo classInfo(final String name) {
+        final ClassInfo classInfo = mock(ClassInfo.class);
+        when(classInfo.getName()).thenReturn(name);
+        return classInfo;
+    }
 }
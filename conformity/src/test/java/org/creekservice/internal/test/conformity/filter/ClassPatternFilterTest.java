@@ -98,4 +98,16 @@ class ClassPatternFilterTest {
         assertThat(filter.isExcluded(ExampleTest.class), is(true));
         assertThat(filter.isExcluded(ExampleTest.NestedType.class), is(true));
     }
+
+    @Test
+    void shouldExcludeByClassName() {
+        // Given:
+        final ClassPatternFilter filter = builder.addExclude("java\\.lang\\..*").build(false);
+
+        // Then:
+        assertThat(filter.isExcluded("java.lang.Number"), is(true));
+        assertThat(filter.notExcluded("java.lang.Number"), is(false));
+        assertThat(filter.isExcluded("java.util.Map"), is(false));
+        assertThat(filter.notExcluded("java.util.Map"), is(true));
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * Supplier that accumulates the items of a streaming source, returning a view of all items seen so
+ * far.
+ *
+ * <p>Each call to {@link #get()} only processes items that have arrived since the last call. A new
+ * view is only returned when new items have arrived, allowing change detection by identity.
+ *
+ * @param <T> the item type.
+ */
+abstract class Accumulator<T> implements Supplier<List<T>>, AutoCloseable {
+
+    private final List<T> items = new ArrayList<>();
+    private List<T> view = Collections.unmodifiableList(items);
+
+    static <T> Accumulator<T> of(final Iterator<? extends T> source) {
+        requireNonNull(source, "source");
+        return new Accumulator<>() {
+            @Override
+            void drainTo(final List<T> sink) {
+                while (source.hasNext()) {
+                    sink.add(source.next());
+                }
+            }
+        };
+    }
+
+    static <T> Accumulator<T> of(final BlockingQueue<? extends T> source) {
+        requireNonNull(source, "source");
+        return new Accumulator<>() {
+            @Override
+            void drainTo(final List<T> sink) {
+                source.drainTo(sink);
+            }
+        };
+    }
+
+    static <T> Accumulator<T> of(final Flow.Publisher<? extends T> source) {
+        requireNonNull(source, "source");
+        final PublisherAccumulator<T> accumulator = new PublisherAccumulator<>();
+        source.subscribe(accumulator);
+        return accumulator;
+    }
+
+    @Override
+    public List<T> get() {
+        final int before = items.size();
+        drainTo(items);
+        if (items.size() != before) {
+            view = Collections.unmodifiableList(items);
+        }
+        return view;
+    }
+
+    @Override
+    public void close() {}
+
+    /**
+     * Move any newly available items into the {@code sink}.
+     *
+     * @param sink the sink to add items to.
+     */
+    abstract void drainTo(List<T> sink);
+
+    private static final class PublisherAccumulator<T> extends Accumulator<T>
+            implements Flow.Subscriber<T> {
+
+        private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean closed;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = requireNonNull(subscription, "subscription");
+            if (closed) {
+                subscription.cancel();
+            } else {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(final T item) {
+            buffer.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = requireNonNull(throwable, "throwable");
+        }
+
+        @Override
+        public void onComplete() {}
+
+        @Override
+        void drainTo(final List<T> sink) {
+            final Throwable failure = error;
+
+            T item = buffer.poll();
+            while (item != null) {
+                sink.add(item);
+                item = buffer.poll();
+            }
+
+            if (failure != null) {
+                throw new PublisherFailedException(failure);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            final Flow.Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+
+    private static final class PublisherFailedException extends RuntimeException {
+
+        PublisherFailedException(final Throwable cause) {
+            super("Publisher failed: " + cause.getMessage(), cause);
+        }
+    }
+}
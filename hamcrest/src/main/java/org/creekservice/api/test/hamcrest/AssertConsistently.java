@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.creekservice.api.test.hamcrest.AssertEventually.Sleeper;
+import org.hamcrest.Matcher;
+
+/**
+ * Hamcrest async assert that a condition remains true for a duration.
+ *
+ * <p>The companion of {@link AssertEventually}: use to prove something does not happen, e.g. that
+ * no message is emitted for a period of time.
+ */
+public final class AssertConsistently {
+
+    /**
+     * Hamcrest style assertion, taking a value supplier rather than a value.
+     *
+     * <p>The supplier is sampled periodically until the configured duration has elapsed. The
+     * assertion fails on the first sample that does not match.
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param <T> the type of the value being matched
+     * @return the last value sampled
+     * @throws AssertionError on the first sample to not match.
+     * @throws RuntimeException if the supplier throws
+     */
+    public static <T> T assertThatConsistently(
+            final Supplier<? extends T> actualSupplier, final Matcher<? super T> expected) {
+        return assertThatConsistently(actualSupplier, expected, withSettings());
+    }
+
+    /**
+     * Hamcrest style assertion, taking a value supplier rather than a value.
+     *
+     * <p>The supplier is sampled periodically until the configured duration has elapsed. The
+     * assertion fails on the first sample that does not match.
+     *
+     * <p>The duration, sample period and other functionality is configurable via the supplied
+     * {@link Settings},
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the value being matched
+     * @return the last value sampled
+     * @throws AssertionError on the first sample to not match.
+     * @throws RuntimeException if the supplier throws
+     */
+    public static <T> T assertThatConsistently(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final Settings settings) {
+        requireNonNull(settings, "settings");
+        return check(
+                actualSupplier, expected, settings.sleeper::sleep, settings.samplePeriod, settings);
+    }
+
+    /**
+     * Event driven version of {@link #assertThatConsistently(Supplier, Matcher, Settings)}.
+     *
+     * <p>Rather than sampling periodically, the supplier is sampled at the start, each time the
+     * supplied {@code signal} fires, and once the configured duration has elapsed. The {@link
+     * Settings#withSamplePeriod sample period} and {@link Settings#withSleeper sleeper} are not
+     * used.
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param signal the signal that fires when the supplied value may have changed.
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the value being matched
+     * @return the last value sampled
+     * @throws AssertionError on the first sample to not match.
+     * @throws RuntimeException if the supplier throws
+     */
+    public static <T> T assertThatConsistently(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final WakeUpSignal signal,
+            final Settings settings) {
+        requireNonNull(signal, "signal");
+        requireNonNull(settings, "settings");
+        return check(actualSupplier, expected, signal, settings.duration, settings);
+    }
+
+    /**
+     * Factory method for settings builder
+     *
+     * @return settings builder
+     */
+    public static Settings withSettings() {
+        return new Settings();
+    }
+
+    /** Settings to control the assertion. */
+    public static final class Settings {
+
+        private Supplier<String> message = () -> "";
+        private Duration duration = Duration.ofSeconds(1);
+        private Duration samplePeriod = Duration.ofMillis(10);
+        private Optional<Clock> clock = Optional.empty();
+        private Sleeper sleeper = AssertEventually.ThreadSleeper;
+
+        private Settings() {}
+
+        /**
+         * Set a custom message used on failure
+         *
+         * @param message the custom message
+         * @return self.
+         */
+        public Settings withMessage(final String message) {
+            requireNonNull(message, "message");
+            this.message = () -> message;
+            return this;
+        }
+
+        /**
+         * Set a custom message used on failure
+         *
+         * @param message the custom message supplier. Only called on failure
+         * @return self.
+         */
+        public Settings withMessage(final Supplier<String> message) {
+            this.message = requireNonNull(message, "message");
+            return this;
+        }
+
+        /**
+         * Customise how long the condition must remain true.
+         *
+         * @param duration the custom duration.
+         * @return self.
+         * @throws IllegalArgumentException if {@code duration} is not positive.
+         */
+        public Settings withDuration(final Duration duration) {
+            if (duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException("duration must be positive");
+            }
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Customise how often the supplier is sampled.
+         *
+         * @param period the duration between samples.
+         * @return self.
+         */
+        public Settings withSamplePeriod(final Duration period) {
+            if (period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("period must be positive");
+            }
+            this.samplePeriod = period;
+            return this;
+        }
+
+        /**
+         * Customise the clock used to determine when the duration has elapsed.
+         *
+         * <p>Combine with {@link #withSleeper} to test code driven by a fake clock, e.g. {@link
+         * VirtualTime}.
+         *
+         * @param clock the custom clock.
+         * @return self.
+         */
+        public Settings withClock(final Clock clock) {
+            this.clock = Optional.of(requireNonNull(clock, "clock"));
+            return this;
+        }
+
+        /**
+         * Customise how the assertion waits between samples.
+         *
+         * @param sleeper the custom sleeper.
+         * @return self.
+         */
+        public Settings withSleeper(final Sleeper sleeper) {
+            this.sleeper = requireNonNull(sleeper, "sleeper");
+            return this;
+        }
+    }
+
+    private AssertConsistently() {}
+
+    private static <T> T check(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final WakeUpSignal signal,
+            final Duration maxWait,
+            final Settings settings) {
+        requireNonNull(actualSupplier, "actualSupplier");
+        requireNonNull(expected, "expected");
+        try {
+            final Deadline end = Deadline.after(settings.duration, settings.clock);
+
+            T actual = sample(actualSupplier, expected, settings, end);
+            while (!end.expired()) {
+                signal.await(end.remaining(maxWait));
+                actual = sample(actualSupplier, expected, settings, end);
+            }
+            return actual;
+        } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static <T> T sample(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final Settings settings,
+            final Deadline end) {
+        final T actual = actualSupplier.get();
+        if (!expected.matches(actual)) {
+            final String message = settings.message.get();
+            assertThat(
+                    (message.isEmpty() ? "" : message + System.lineSeparator())
+                            + "Condition violated after "
+                            + end.elapsed(),
+                    actual,
+                    expected);
+        }
+        return actual;
+    }
+}
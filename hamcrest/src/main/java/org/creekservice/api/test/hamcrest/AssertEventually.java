@@ -16,13 +16,44 @@
 
 package org.creekservice.api.test.hamcrest;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 import static java.util.Objects.requireNonNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import org.creekservice.api.test.hamcrest.BackoffStrategy.Backoff;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
 
 /** Hamcrest async assert with timeout. */
 public final class AssertEventually {
@@ -50,6 +81,39 @@ public final class AssertEventually {
      */
     public static final ExceptionFilter RetryOnException = e -> {};
 
+    /** Type used to wait between attempts. */
+    @FunctionalInterface
+    public interface Sleeper {
+
+        /**
+         * Called to wait between attempts.
+         *
+         * @param duration the duration to wait.
+         * @throws InterruptedException if interrupted while waiting.
+         */
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    /** Type notified of the statistics of each completed assertion. */
+    @FunctionalInterface
+    public interface StatisticsListener {
+
+        /**
+         * Called once an assertion passes or fails.
+         *
+         * @param statistics the statistics of the assertion.
+         */
+        void onComplete(PollStatistics statistics);
+    }
+
+    /**
+     * A sleeper that blocks the calling thread.
+     *
+     * <p>Waits are measured with nanosecond precision, parking the thread rather than rounding
+     * down to whole milliseconds. A zero duration spins rather than parks.
+     */
+    public static final Sleeper ThreadSleeper = AssertEventually::parkNanos;
+
     /**
      * Hamcrest style assertion, taking a value supplier rather than a value.
      *
@@ -85,43 +149,383 @@ public final class AssertEventually {
      * @throws AssertionError on failure to match within the timeout.
      * @throws RuntimeException if the supplier throws
      */
-    @SuppressWarnings("BusyWait")
     public static <T> T assertThatEventually(
             final Supplier<? extends T> actualSupplier,
             final Matcher<? super T> expected,
             final Settings settings) {
+        requireNonNull(settings, "settings");
+        return assertThatEventually(actualSupplier, expected, settings.sleeper::sleep, settings);
+    }
+
+    /**
+     * Hamcrest style assertion, taking a value supplier rather than a value.
+     *
+     * <p>The supplier is checked each time the supplied {@code signal} fires, and polled
+     * periodically as a fallback, until either the matcher matches or a timeout is reached.
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param signal the signal used to wake the assertion early.
+     * @param <T> the type of the value being matched
+     * @return the value that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @throws RuntimeException if the supplier throws
+     */
+    public static <T> T assertThatEventually(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final WakeUpSignal signal) {
+        return assertThatEventually(actualSupplier, expected, signal, withSettings());
+    }
+
+    /**
+     * Hamcrest style assertion, taking a value supplier rather than a value.
+     *
+     * <p>The supplier is checked each time the supplied {@code signal} fires, and polled
+     * periodically as a fallback, until either the matcher matches or a timeout is reached.
+     *
+     * <p>The timeout, fallback poll period and other functionality is configurable via the
+     * supplied {@link Settings},
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param signal the signal used to wake the assertion early.
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the value being matched
+     * @return the value that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @throws RuntimeException if the supplier throws
+     */
+    public static <T> T assertThatEventually(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final WakeUpSignal signal,
+            final Settings settings) {
+        requireNonNull(actualSupplier, "actualSupplier");
+        requireNonNull(expected, "expected");
+        requireNonNull(signal, "signal");
+        requireNonNull(settings, "settings");
+
+        final PollRecorder recorder = new PollRecorder(settings.timeout, settings.listener);
+        final Attempt<T> attempt =
+                new Attempt<>(new Expectation<>(actualSupplier, expected), recorder);
+        boolean passed = false;
         try {
-            final Instant end = Instant.now().plus(settings.timeout);
-
-            Duration period = settings.initialPeriod;
-            while (Instant.now().isBefore(end)) {
-                T actual = null;
-                boolean acquired = false;
-
-                try {
-                    actual = actualSupplier.get();
-                    acquired = true;
-                } catch (final RuntimeException e) {
-                    settings.exceptionFilter.accept(e);
-                }
+            final Deadline end = Deadline.after(settings.timeout, settings.clock);
+            final Backoff backoff = settings.backoff().start();
 
-                if (acquired && expected.matches(actual)) {
-                    return actual;
+            while (!end.expired()) {
+                if (attempt.check(settings, end)) {
+                    passed = true;
+                    backoff.onSuccess(end.elapsed());
+                    return attempt.actual;
                 }
 
-                Thread.sleep(period.toMillis());
+                signal.await(end.remaining(backoff.nextDelay()));
+            }
 
-                period = increasePeriod(settings, period);
+            if (settings.fingerprint.isPresent() && attempt.observed) {
+                throw new AssertionError(describeLastObserved(settings, attempt));
             }
 
-            final T actual = actualSupplier.get();
+            final T actual = finalPoll(actualSupplier, expected, settings, recorder);
             assertThat(settings.message.get(), actual, expected);
+            passed = true;
+            backoff.onSuccess(end.elapsed());
             return actual;
         } catch (final InterruptedException e) {
             throw new RuntimeException(e);
+        } finally {
+            recorder.complete(passed);
         }
     }
 
+    /**
+     * Asserts that a path eventually matches the supplied {@code expected} matcher.
+     *
+     * <p>See {@link #assertThatEventually(Path, Matcher, Settings)} for details.
+     *
+     * @param path the path to check.
+     * @param expected the matcher the path should eventually match.
+     * @return the path.
+     */
+    public static Path assertThatEventually(
+            final Path path, final Matcher<? super Path> expected) {
+        return assertThatEventually(path, expected, withSettings());
+    }
+
+    /**
+     * Asserts that a path eventually matches the supplied {@code expected} matcher.
+     *
+     * <p>For example, waiting for a file written by another process: {@code
+     * assertThatEventually(path, is(regularFile()))}.
+     *
+     * <p>Rather than only polling, a {@link java.nio.file.WatchService} is registered on the
+     * parent directory of the path, and the path is re-checked as soon as an entry in that
+     * directory is created, modified or deleted. Polling, as controlled by {@code settings},
+     * remains as the fallback, e.g. if the parent directory does not yet exist, the file system
+     * does not support watching, or a custom {@link Settings#withSleeper sleeper} is set.
+     *
+     * @param path the path to check.
+     * @param expected the matcher the path should eventually match.
+     * @param settings the settings to use.
+     * @return the path.
+     */
+    public static Path assertThatEventually(
+            final Path path, final Matcher<? super Path> expected, final Settings settings) {
+        requireNonNull(path, "path");
+        requireNonNull(expected, "expected");
+        requireNonNull(settings, "settings");
+
+        final Optional<WatchService> watch =
+                settings.sleeper == ThreadSleeper ? watchParent(path) : Optional.empty();
+        try {
+            final WakeUpSignal signal =
+                    watch.map(WakeUpSignal::fromWatchService).orElse(settings.sleeper::sleep);
+            return assertThatEventually(() -> path, expected, signal, settings);
+        } finally {
+            watch.ifPresent(AssertEventually::closeQuietly);
+        }
+    }
+
+    /**
+     * Incremental assertion over the items of an iterator.
+     *
+     * <p>Items are accumulated as they become available, and the matcher is evaluated against a
+     * view of all items seen so far. Each poll only reads new items from the iterator. The
+     * iterator's {@code hasNext} should return {@code false}, rather than block, when no items are
+     * currently available.
+     *
+     * @param source the source of items.
+     * @param expected the expected matcher
+     * @param <T> the type of the items
+     * @return the items that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @throws RuntimeException if the source throws
+     */
+    public static <T> List<T> assertThatAccumulatedEventually(
+            final Iterator<? extends T> source, final Matcher<? super List<T>> expected) {
+        return assertThatAccumulatedEventually(source, expected, withSettings());
+    }
+
+    /**
+     * Incremental assertion over the items of an iterator.
+     *
+     * @param source the source of items.
+     * @param expected the expected matcher
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the items
+     * @return the items that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @throws RuntimeException if the source throws
+     * @see #assertThatAccumulatedEventually(Iterator, Matcher)
+     */
+    public static <T> List<T> assertThatAccumulatedEventually(
+            final Iterator<? extends T> source,
+            final Matcher<? super List<T>> expected,
+            final Settings settings) {
+        requireNonNull(expected, "expected");
+        requireNonNull(settings, "settings");
+        return assertThatEventually(Accumulator.of(source), expected, settings);
+    }
+
+    /**
+     * Incremental assertion over the items added to a queue.
+     *
+     * <p>Items are drained from the queue as they arrive, and the matcher is evaluated against a
+     * view of all items seen so far. Each poll only processes new items.
+     *
+     * @param source the source of items.
+     * @param expected the expected matcher
+     * @param <T> the type of the items
+     * @return the items that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     */
+    public static <T> List<T> assertThatAccumulatedEventually(
+            final BlockingQueue<? extends T> source, final Matcher<? super List<T>> expected) {
+        return assertThatAccumulatedEventually(source, expected, withSettings());
+    }
+
+    /**
+     * Incremental assertion over the items added to a queue.
+     *
+     * @param source the source of items.
+     * @param expected the expected matcher
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the items
+     * @return the items that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @see #assertThatAccumulatedEventually(BlockingQueue, Matcher)
+     */
+    public static <T> List<T> assertThatAccumulatedEventually(
+            final BlockingQueue<? extends T> source,
+            final Matcher<? super List<T>> expected,
+            final Settings settings) {
+        requireNonNull(expected, "expected");
+        requireNonNull(settings, "settings");
+        return assertThatEventually(Accumulator.of(source), expected, settings);
+    }
+
+    /**
+     * Incremental assertion over the items published by a publisher.
+     *
+     * <p>The publisher is subscribed to for the duration of the assertion. Items are buffered as
+     * they are published, and the matcher is evaluated against a view of all items seen so far.
+     * Each poll only processes new items. An error from the publisher is treated as an exception
+     * from the supplier, i.e. it is passed to the {@link Settings#withExceptionFilter exception
+     * filter}.
+     *
+     * @param source the source of items.
+     * @param expected the expected matcher
+     * @param <T> the type of the items
+     * @return the items that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @throws RuntimeException if the publisher fails
+     */
+    public static <T> List<T> assertThatAccumulatedEventually(
+            final Flow.Publisher<? extends T> source, final Matcher<? super List<T>> expected) {
+        return assertThatAccumulatedEventually(source, expected, withSettings());
+    }
+
+    /**
+     * Incremental assertion over the items published by a publisher.
+     *
+     * @param source the source of items.
+     * @param expected the expected matcher
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the items
+     * @return the items that matched the matcher
+     * @throws AssertionError on failure to match within the timeout.
+     * @throws RuntimeException if the publisher fails
+     * @see #assertThatAccumulatedEventually(Flow.Publisher, Matcher)
+     */
+    public static <T> List<T> assertThatAccumulatedEventually(
+            final Flow.Publisher<? extends T> source,
+            final Matcher<? super List<T>> expected,
+            final Settings settings) {
+        requireNonNull(source, "source");
+        requireNonNull(expected, "expected");
+        requireNonNull(settings, "settings");
+        try (Accumulator<T> accumulator = Accumulator.of(source)) {
+            return assertThatEventually(accumulator, expected, settings);
+        }
+    }
+
+    /**
+     * Asynchronous version of {@link #assertThatEventually(Supplier, Matcher)}.
+     *
+     * <p>Rather than blocking the calling thread, attempts are scheduled on a small pool of daemon
+     * threads shared by all asynchronous assertions. Suppliers should therefore not block.
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param <T> the type of the value being matched
+     * @return a future that completes with the value that matched the matcher, or exceptionally
+     *     with an {@link AssertionError} on failure to match within the timeout, or with any
+     *     exception thrown by the supplier that is not filtered out. Cancelling the future stops
+     *     any further attempts.
+     */
+    public static <T> CompletableFuture<T> assertThatEventuallyAsync(
+            final Supplier<? extends T> actualSupplier, final Matcher<? super T> expected) {
+        return assertThatEventuallyAsync(actualSupplier, expected, withSettings());
+    }
+
+    /**
+     * Asynchronous version of {@link #assertThatEventually(Supplier, Matcher, Settings)}.
+     *
+     * <p>Rather than blocking the calling thread, attempts are scheduled on a small pool of daemon
+     * threads shared by all asynchronous assertions. Suppliers should therefore not block. The
+     * {@link Settings#withSleeper sleeper} is not used.
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param settings settings to control the behaviour
+     * @param <T> the type of the value being matched
+     * @return a future that completes with the value that matched the matcher, or exceptionally
+     *     with an {@link AssertionError} on failure to match within the timeout, or with any
+     *     exception thrown by the supplier that is not filtered out. Cancelling the future stops
+     *     any further attempts.
+     */
+    public static <T> CompletableFuture<T> assertThatEventuallyAsync(
+            final Supplier<? extends T> actualSupplier,
+            final Matcher<? super T> expected,
+            final Settings settings) {
+        final AsyncAssertion<T> assertion =
+                new AsyncAssertion<>(actualSupplier, expected, settings);
+        Scheduler.INSTANCE.execute(assertion);
+        return assertion.result;
+    }
+
+    /**
+     * Create an expectation for use with {@link #allEventually} or {@link #anyEventually}.
+     *
+     * @param actualSupplier the actual value supplied
+     * @param expected the expected matcher
+     * @param <T> the type of the value being matched
+     * @return the expectation.
+     */
+    public static <T> Expectation<T> expectation(
+            final Supplier<? extends T> actualSupplier, final Matcher<? super T> expected) {
+        return new Expectation<>(actualSupplier, expected);
+    }
+
+    /**
+     * Assert that all the supplied {@code expectations} are eventually met.
+     *
+     * @param expectations the expectations to meet.
+     * @throws AssertionError listing every unmet expectation, on failure to meet all within the
+     *     timeout.
+     * @throws RuntimeException if a supplier throws
+     * @see #allEventually(Settings, Expectation[])
+     */
+    public static void allEventually(final Expectation<?>... expectations) {
+        allEventually(withSettings(), expectations);
+    }
+
+    /**
+     * Assert that all the supplied {@code expectations} are eventually met.
+     *
+     * <p>All suppliers are polled in the same cycle, under a single timeout. Once an expectation
+     * is met its supplier is no longer polled.
+     *
+     * @param settings settings to control the behaviour
+     * @param expectations the expectations to meet.
+     * @throws AssertionError listing every unmet expectation, on failure to meet all within the
+     *     timeout.
+     * @throws RuntimeException if a supplier throws
+     */
+    public static void allEventually(
+            final Settings settings, final Expectation<?>... expectations) {
+        awaitExpectations(settings, expectations, expectations.length);
+    }
+
+    /**
+     * Assert that at least one of the supplied {@code expectations} is eventually met.
+     *
+     * @param expectations the expectations to meet.
+     * @throws AssertionError listing every expectation, on failure to meet any within the timeout.
+     * @throws RuntimeException if a supplier throws
+     * @see #anyEventually(Settings, Expectation[])
+     */
+    public static void anyEventually(final Expectation<?>... expectations) {
+        anyEventually(withSettings(), expectations);
+    }
+
+    /**
+     * Assert that at least one of the supplied {@code expectations} is eventually met.
+     *
+     * <p>All suppliers are polled in the same cycle, under a single timeout.
+     *
+     * @param settings settings to control the behaviour
+     * @param expectations the expectations to meet.
+     * @throws AssertionError listing every expectation, on failure to meet any within the timeout.
+     * @throws RuntimeException if a supplier throws
+     */
+    public static void anyEventually(
+            final Settings settings, final Expectation<?>... expectations) {
+        awaitExpectations(settings, expectations, 1);
+    }
+
     /**
      * Factory method for settings builder
      *
@@ -139,9 +543,22 @@ public final class AssertEventually {
         private Duration timeout = Duration.ofSeconds(30);
         private Duration initialPeriod = Duration.ofMillis(1);
         private Duration maxPeriod = Duration.ofSeconds(1);
+        private Optional<BackoffStrategy> backoff = Optional.empty();
+        private Optional<Clock> clock = Optional.empty();
+        private Sleeper sleeper = ThreadSleeper;
+        private Optional<Duration> pollTimeout = Optional.empty();
+        private StatisticsListener listener = statistics -> {};
+        private Optional<Function<Object, ?>> fingerprint = Optional.empty();
 
         private Settings() {}
 
+        private BackoffStrategy backoff() {
+            final BackoffStrategy exponential =
+                    BackoffStrategies.defaultExponential(initialPeriod, maxPeriod);
+            return backoff.map(strategy -> BackoffStrategies.withFallback(strategy, exponential))
+                    .orElse(exponential);
+        }
+
         /**
          * Set a custom message used on failure
          *
@@ -219,12 +636,597 @@ public final class AssertEventually {
             this.maxPeriod = requireNonNull(period, "period");
             return this;
         }
+
+        /**
+         * Customise how long to wait between attempts.
+         *
+         * <p>By default, the assertion uses {@link BackoffStrategy#exponential exponential} backoff
+         * from the {@link #withInitialPeriod initial period} up to the {@link #withMaxPeriod
+         * maximum period}. Once a custom strategy is set, these periods are ignored, except by
+         * {@link BackoffStrategy#adaptive adaptive} backoff, which falls back to this default when
+         * a call site has no history.
+         *
+         * @param strategy the custom strategy.
+         * @return self.
+         */
+        public Settings withBackoff(final BackoffStrategy strategy) {
+            this.backoff = Optional.of(requireNonNull(strategy, "strategy"));
+            return this;
+        }
+
+        /**
+         * Customise the clock used to determine when the assertion times out.
+         *
+         * <p>Combine with {@link #withSleeper} to test code driven by a fake clock, e.g. {@link
+         * VirtualTime}.
+         *
+         * @param clock the custom clock.
+         * @return self.
+         */
+        public Settings withClock(final Clock clock) {
+            this.clock = Optional.of(requireNonNull(clock, "clock"));
+            return this;
+        }
+
+        /**
+         * Customise how the assertion waits between attempts.
+         *
+         * <p>Not used if the assertion is passed a {@link WakeUpSignal}.
+         *
+         * @param sleeper the custom sleeper.
+         * @return self.
+         */
+        public Settings withSleeper(final Sleeper sleeper) {
+            this.sleeper = requireNonNull(sleeper, "sleeper");
+            return this;
+        }
+
+        /**
+         * Bound how long each call to the supplier can take.
+         *
+         * <p>By default, suppliers are called on the asserting thread and a supplier that blocks
+         * can hold the assertion well beyond its timeout. Once set, each call is instead made on a
+         * separate daemon thread and is abandoned, and the thread interrupted, if it does not
+         * return within the lesser of this poll timeout and the time remaining. An abandoned call
+         * counts as a failed attempt. The final attempt, made after the timeout, is bounded by
+         * this poll timeout.
+         *
+         * <p>A supplier that ignores interrupts continues to occupy its thread after being
+         * abandoned. Such threads are taken from a small, shared, bounded pool: if enough
+         * suppliers hang, later calls wait for a free thread and can time out without running.
+         *
+         * <p>Not used by {@link AssertEventually#assertThatEventuallyAsync asynchronous}
+         * assertions.
+         *
+         * @param timeout the maximum time a single call to the supplier can take.
+         * @return self.
+         */
+        public Settings withPollTimeout(final Duration timeout) {
+            if (timeout.isZero() || timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must be positive");
+            }
+            this.pollTimeout = Optional.of(timeout);
+            return this;
+        }
+
+        /**
+         * Set a listener to be notified of the statistics of the assertion once it completes.
+         *
+         * <p>Statistics include the number of polls, supplier and matcher latencies and the time
+         * taken to pass or fail. The same statistics are also recorded as {@code
+         * org.creekservice.test.AssertEventually} JFR events, when a flight recording is active.
+         *
+         * @param listener the listener.
+         * @return self.
+         */
+        public Settings withStatisticsListener(final StatisticsListener listener) {
+            this.listener = requireNonNull(listener, "listener");
+            return this;
+        }
+
+        /**
+         * Only evaluate the matcher when the supplier returns a different instance to last time.
+         *
+         * <p>Useful when the matcher is expensive, e.g. a deep comparison of a large payload, and
+         * the supplier returns the same instance until something changes. Suppliers that return
+         * the same mutable instance, changing its state, should use {@link
+         * #withChangeDetection(Class, Function)} instead.
+         *
+         * <p>See {@link #withChangeDetection(Class, Function)} for details.
+         *
+         * @return self.
+         */
+        public Settings withChangeDetection() {
+            return withChangeDetection(Object.class, Identity::new);
+        }
+
+        /**
+         * Only evaluate the matcher when the fingerprint of the supplied value changes.
+         *
+         * <p>The {@code fingerprint} function is called with each value returned by the supplier.
+         * If the result is {@link Object#equals equal} to the fingerprint of the last value the
+         * matcher was evaluated against, the value is known not to match and the matcher is
+         * skipped. For example, a version number or hash of a large payload.
+         *
+         * <p>With change detection enabled, the supplier is not called again once the timeout
+         * has elapsed: the assertion fails with the last observed value.
+         *
+         * <p>Not used by {@link AssertEventually#assertThatEventuallyAsync asynchronous}
+         * assertions.
+         *
+         * @param type the type of the supplied values.
+         * @param fingerprint function to compute the fingerprint of a supplied value.
+         * @param <T> the type of the supplied values.
+         * @return self.
+         * @throws ClassCastException on use, if a supplied value is not of {@code type}.
+         */
+        public <T> Settings withChangeDetection(
+                final Class<T> type, final Function<? super T, ?> fingerprint) {
+            requireNonNull(type, "type");
+            requireNonNull(fingerprint, "fingerprint");
+            this.fingerprint = Optional.of(value -> fingerprint.apply(type.cast(value)));
+            return this;
+        }
+    }
+
+    /** Fingerprint that is only equal for the same instance. */
+    private static final class Identity {
+
+        private final Object value;
+
+        Identity(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Identity && ((Identity) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+
+    /**
+     * A supplier paired with the matcher its value is expected to eventually match.
+     *
+     * @param <T> the type of the value being matched
+     * @see #expectation
+     */
+    public static final class Expectation<T> {
+
+        private final Supplier<? extends T> actualSupplier;
+        private final Matcher<? super T> expected;
+
+        private Expectation(
+                final Supplier<? extends T> actualSupplier, final Matcher<? super T> expected) {
+            this.actualSupplier = requireNonNull(actualSupplier, "actualSupplier");
+            this.expected = requireNonNull(expected, "expected");
+        }
     }
 
     private AssertEventually() {}
 
-    private static Duration increasePeriod(final Settings settings, final Duration currentPeriod) {
-        final Duration doubled = currentPeriod.multipliedBy(2);
-        return doubled.compareTo(settings.maxPeriod) < 0 ? doubled : settings.maxPeriod;
+    private static void awaitExpectations(
+            final Settings settings, final Expectation<?>[] expectations, final int required) {
+        requireNonNull(settings, "settings");
+        requireNonNull(expectations, "expectations");
+        if (expectations.length == 0) {
+            throw new IllegalArgumentException("expectations can not be empty");
+        }
+
+        final PollRecorder recorder = new PollRecorder(settings.timeout, settings.listener);
+        final List<Attempt<?>> attempts = new ArrayList<>(expectations.length);
+        for (final Expectation<?> expectation : expectations) {
+            attempts.add(new Attempt<>(requireNonNull(expectation, "expectation"), recorder));
+        }
+
+        boolean passed = false;
+        try {
+            final Deadline end = Deadline.after(settings.timeout, settings.clock);
+            final Backoff backoff = settings.backoff().start();
+
+            while (!end.expired()) {
+                if (checkAll(attempts, settings, end) >= required) {
+                    passed = true;
+                    backoff.onSuccess(end.elapsed());
+                    return;
+                }
+
+                settings.sleeper.sleep(end.remaining(backoff.nextDelay()));
+            }
+
+            if (checkFinal(attempts, settings) < required) {
+                throw new AssertionError(describeUnmet(settings, attempts));
+            }
+            passed = true;
+            backoff.onSuccess(end.elapsed());
+        } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+        } finally {
+            recorder.complete(passed);
+        }
+    }
+
+    private static Optional<WatchService> watchParent(final Path path) {
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent == null || !Files.isDirectory(parent)) {
+            return Optional.empty();
+        }
+
+        final WatchService watchService;
+        try {
+            watchService = parent.getFileSystem().newWatchService();
+        } catch (final IOException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+
+        try {
+            parent.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            return Optional.of(watchService);
+        } catch (final IOException | UnsupportedOperationException e) {
+            closeQuietly(watchService);
+            return Optional.empty();
+        }
+    }
+
+    private static void closeQuietly(final WatchService watchService) {
+        try {
+            watchService.close();
+        } catch (final IOException e) {
+            // Nothing to do: the watch is no longer needed.
+        }
+    }
+
+    private static int checkAll(
+            final List<Attempt<?>> attempts, final Settings settings, final Deadline deadline)
+            throws InterruptedException {
+        int met = 0;
+        for (final Attempt<?> attempt : attempts) {
+            if (attempt.check(settings, deadline)) {
+                met++;
+            }
+        }
+        return met;
+    }
+
+    private static int checkFinal(final List<Attempt<?>> attempts, final Settings settings)
+            throws InterruptedException {
+        final Deadline deadline = finalPollDeadline(settings);
+        int met = 0;
+        for (final Attempt<?> attempt : attempts) {
+            if (attempt.checkFinal(settings, deadline)) {
+                met++;
+            }
+        }
+        return met;
+    }
+
+    private static String describeLastObserved(final Settings settings, final Attempt<?> attempt) {
+        final Description description = new StringDescription();
+        description.appendText(settings.message.get()).appendText(System.lineSeparator());
+        attempt.describeMismatch(description);
+        return description.toString();
+    }
+
+    private static String describeUnmet(final Settings settings, final List<Attempt<?>> attempts) {
+        final Description description = new StringDescription();
+        description.appendText(settings.message.get());
+
+        for (int i = 0; i != attempts.size(); ++i) {
+            final Attempt<?> attempt = attempts.get(i);
+            if (!attempt.met) {
+                description
+                        .appendText(System.lineSeparator())
+                        .appendText("Expectation " + (i + 1) + " of " + attempts.size() + ":")
+                        .appendText(System.lineSeparator());
+                attempt.describeMismatch(description);
+            }
+        }
+        return description.toString();
+    }
+
+    private static final class Attempt<T> {
+
+        private final Expectation<T> expectation;
+        private final PollRecorder recorder;
+        private boolean met;
+        private T actual;
+        private RuntimeException error;
+        private boolean observed;
+        private Object fingerprint;
+
+        Attempt(final Expectation<T> expectation, final PollRecorder recorder) {
+            this.expectation = requireNonNull(expectation, "expectation");
+            this.recorder = requireNonNull(recorder, "recorder");
+        }
+
+        boolean check(final Settings settings, final Deadline deadline)
+                throws InterruptedException {
+            if (met) {
+                return true;
+            }
+
+            error = null;
+            final long start = System.nanoTime();
+            try {
+                actual = poll(expectation.actualSupplier, settings, deadline);
+            } catch (final PollTimeoutException e) {
+                error = e;
+                return false;
+            } catch (final RuntimeException e) {
+                error = e;
+                settings.exceptionFilter.accept(e);
+                return false;
+            } finally {
+                recorder.supplierCalled(System.nanoTime() - start);
+            }
+
+            if (settings.fingerprint.isPresent() && unchanged(settings.fingerprint.get())) {
+                return false;
+            }
+
+            final long matchStart = System.nanoTime();
+            met = expectation.expected.matches(actual);
+            recorder.matcherCalled(System.nanoTime() - matchStart);
+            return met;
+        }
+
+        /**
+         * The last check before failing: with change detection enabled the last observed value is
+         * final, so the supplier is not called again.
+         */
+        boolean checkFinal(final Settings settings, final Deadline deadline)
+                throws InterruptedException {
+            if (settings.fingerprint.isPresent() && observed) {
+                return met;
+            }
+            return check(settings, deadline);
+        }
+
+        private boolean unchanged(final Function<Object, ?> fingerprinter) {
+            final Object latest = fingerprinter.apply(actual);
+            final boolean unchanged = observed && Objects.equals(fingerprint, latest);
+            observed = true;
+            fingerprint = latest;
+            return unchanged;
+        }
+
+        void describeMismatch(final Description description) {
+            description
+                    .appendText("Expected: ")
+                    .appendDescriptionOf(expectation.expected)
+                    .appendText(System.lineSeparator())
+                    .appendText("     but: ");
+
+            if (error != null) {
+                description.appendText("threw ").appendValue(error);
+            } else {
+                expectation.expected.describeMismatch(actual, description);
+            }
+        }
+    }
+
+    /** Lazily created pool shared by all asynchronous assertions. */
+    private static final class Scheduler {
+
+        static final ScheduledExecutorService INSTANCE =
+                Executors.newScheduledThreadPool(
+                        Math.max(2, Runtime.getRuntime().availableProcessors() / 2),
+                        new DaemonThreadFactory("creek-assert-eventually-"));
+    }
+
+    /**
+     * Lazily created pool used to run suppliers when a poll timeout is set.
+     *
+     * <p>Bounded, as a supplier that ignores interrupts keeps its thread. Once all threads are
+     * busy, calls queue, and time spent queued counts towards the poll timeout.
+     */
+    private static final class Pollers {
+
+        private static final int MAX_THREADS =
+                Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            final ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                            MAX_THREADS,
+                            MAX_THREADS,
+                            30,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new DaemonThreadFactory("creek-assert-poll-"));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(final String prefix) {
+            this.prefix = requireNonNull(prefix, "prefix");
+        }
+
+        @Override
+        public Thread newThread(final Runnable task) {
+            final Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static final class AsyncAssertion<T> implements Runnable {
+
+        private final Supplier<? extends T> actualSupplier;
+        private final Matcher<? super T> expected;
+        private final Settings settings;
+        private final Deadline end;
+        private final Backoff backoff;
+        private final PollRecorder recorder;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        AsyncAssertion(
+                final Supplier<? extends T> actualSupplier,
+                final Matcher<? super T> expected,
+                final Settings settings) {
+            this.actualSupplier = requireNonNull(actualSupplier, "actualSupplier");
+            this.expected = requireNonNull(expected, "expected");
+            this.settings = requireNonNull(settings, "settings");
+            this.end = Deadline.after(settings.timeout, settings.clock);
+            this.backoff = settings.backoff().start();
+            this.recorder = new PollRecorder(settings.timeout, settings.listener);
+        }
+
+        /**
+         * Poll once. Only ever invoked on one scheduler thread at a time, so the recorder and
+         * backoff, which are not thread-safe, are only accessed from the task.
+         */
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                // Cancelled by the caller since the last attempt:
+                recorder.complete(false);
+                return;
+            }
+
+            try {
+                if (!end.expired()) {
+                    attempt();
+                } else {
+                    final T actual = timedGet();
+                    assertThat(settings.message.get(), actual, expected);
+                    succeed(actual);
+                }
+            } catch (final Throwable e) {
+                recorder.complete(false);
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void attempt() {
+            try {
+                final T actual = timedGet();
+                final long matchStart = System.nanoTime();
+                final boolean matches = expected.matches(actual);
+                recorder.matcherCalled(System.nanoTime() - matchStart);
+                if (matches) {
+                    succeed(actual);
+                    return;
+                }
+            } catch (final RuntimeException e) {
+                settings.exceptionFilter.accept(e);
+            }
+
+            final Duration delay = end.remaining(backoff.nextDelay());
+            Scheduler.INSTANCE.schedule(this, delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        private void succeed(final T actual) {
+            final boolean passed = !result.isDone();
+            recorder.complete(passed);
+            if (passed) {
+                backoff.onSuccess(end.elapsed());
+            }
+            result.complete(actual);
+        }
+
+        private T timedGet() {
+            final long start = System.nanoTime();
+            try {
+                return actualSupplier.get();
+            } finally {
+                recorder.supplierCalled(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Invoke the supplier, bounded by the poll timeout, if set, and the supplied deadline.
+     *
+     * @throws PollTimeoutException if the supplier did not return in time.
+     */
+    private static <T> T poll(
+            final Supplier<? extends T> supplier, final Settings settings, final Deadline deadline)
+            throws InterruptedException {
+        if (settings.pollTimeout.isEmpty()) {
+            return supplier.get();
+        }
+
+        final Duration limit = deadline.remaining(settings.pollTimeout.get());
+        final Future<? extends T> future = Pollers.INSTANCE.submit(supplier::get);
+        try {
+            return future.get(limit.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            throw new PollTimeoutException(settings.pollTimeout.get());
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            future.cancel(true);
+        }
+    }
+
+    private static <T> T finalPoll(
+            final Supplier<? extends T> supplier,
+            final Matcher<? super T> expected,
+            final Settings settings,
+            final PollRecorder recorder)
+            throws InterruptedException {
+        final long start = System.nanoTime();
+        try {
+            return poll(supplier, settings, finalPollDeadline(settings));
+        } catch (final PollTimeoutException e) {
+            throw new AssertionError(
+                    settings.message.get()
+                            + System.lineSeparator()
+                            + "Expected: "
+                            + StringDescription.toString(expected)
+                            + System.lineSeparator()
+                            + "     but: "
+                            + e.getMessage(),
+                    e);
+        } finally {
+            recorder.supplierCalled(System.nanoTime() - start);
+        }
+    }
+
+    private static Deadline finalPollDeadline(final Settings settings) {
+        return Deadline.after(settings.pollTimeout.orElse(Duration.ZERO), settings.clock);
+    }
+
+    private static void parkNanos(final Duration duration) throws InterruptedException {
+        if (duration.isZero()) {
+            Thread.onSpinWait();
+            return;
+        }
+
+        final long end = System.nanoTime() + duration.toNanos();
+        long remaining = duration.toNanos();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            remaining = end - System.nanoTime();
+        }
+    }
+
+    private static final class PollTimeoutException extends RuntimeException {
+
+        PollTimeoutException(final Duration pollTimeout) {
+            super("supplier did not return within poll timeout of " + pollTimeout);
+        }
     }
 }
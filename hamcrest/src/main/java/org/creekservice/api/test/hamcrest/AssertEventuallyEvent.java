@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event recorded for each eventual assertion.
+ *
+ * <p>The event's duration is the time taken for the assertion to pass or fail. The stack trace
+ * identifies the call site.
+ */
+@Name("org.creekservice.test.AssertEventually")
+@Label("Eventual Assertion")
+@Category({"Creek", "Test"})
+@Description("An eventual assertion, polling a supplier until it matches or times out")
+@StackTrace
+final class AssertEventuallyEvent extends Event {
+
+    /** Whether the assertion passed. */
+    @Label("Passed")
+    boolean passed;
+
+    /** The number of times the supplier was called. */
+    @Label("Poll Count")
+    int pollCount;
+
+    /** The timeout the assertion was configured with. */
+    @Label("Timeout")
+    @Timespan
+    long timeout;
+
+    /** The total time spent in calls to the supplier. */
+    @Label("Supplier Time")
+    @Timespan
+    long supplierTime;
+
+    /** The longest single call to the supplier. */
+    @Label("Max Supplier Latency")
+    @Timespan
+    long maxSupplierLatency;
+
+    /** The total time spent in calls to the matcher. */
+    @Label("Matcher Time")
+    @Timespan
+    long matcherTime;
+}
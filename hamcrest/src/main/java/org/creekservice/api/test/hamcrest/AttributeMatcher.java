@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Base type for path matchers that only need a path's attributes, not its content.
+ *
+ * <p>Attributes are read with a single call to {@link Files#readAttributes(Path, Class,
+ * LinkOption...)} per evaluation. Attribute matchers can be {@link #allOf combined} so that they
+ * share that single read.
+ */
+abstract class AttributeMatcher extends TypeSafeDiagnosingMatcher<Path> {
+
+    private static final LinkOption[] FOLLOW_LINKS = {};
+    private static final LinkOption[] NO_FOLLOW_LINKS = {LinkOption.NOFOLLOW_LINKS};
+
+    private final boolean posix;
+    private final boolean followLinks;
+
+    /**
+     * @param posix {@code true} if the matcher needs {@link PosixFileAttributes}, where supported.
+     * @param followLinks {@code true} if symbolic links should be followed.
+     */
+    AttributeMatcher(final boolean posix, final boolean followLinks) {
+        this.posix = posix;
+        this.followLinks = followLinks;
+    }
+
+    /**
+     * Combine attribute matchers, so that they share a single read of the path's attributes.
+     *
+     * @param matchers the matchers to combine.
+     * @return the combined matcher, which reports the mismatch of the first matcher that fails.
+     * @throws IllegalArgumentException if the matchers do not agree on following symbolic links.
+     */
+    static AttributeMatcher allOf(final List<AttributeMatcher> matchers) {
+        final boolean posix = matchers.stream().anyMatch(m -> m.posix);
+        final boolean followLinks = matchers.stream().allMatch(m -> m.followLinks);
+        if (!followLinks && matchers.stream().anyMatch(m -> m.followLinks)) {
+            throw new IllegalArgumentException(
+                    "Can not combine matchers that do and do not follow symbolic links");
+        }
+
+        return new AttributeMatcher(posix, followLinks) {
+            @Override
+            boolean matchesAttributes(
+                    final Path path,
+                    final Optional<BasicFileAttributes> attributes,
+                    final Description mismatchDescription) {
+                for (final AttributeMatcher matcher : matchers) {
+                    if (!matcher.matchesAttributes(path, attributes, mismatchDescription)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description.appendList("(", " and ", ")", matchers);
+            }
+        };
+    }
+
+    /**
+     * @param matcher the matcher to check.
+     * @return the matcher as an attribute matcher.
+     * @throws IllegalArgumentException if it is not an attribute matcher.
+     */
+    static AttributeMatcher cast(final Object matcher) {
+        requireNonNull(matcher, "matcher");
+        if (!(matcher instanceof AttributeMatcher)) {
+            throw new IllegalArgumentException(
+                    "Not an attribute matcher: "
+                            + matcher
+                            + ". Pass the attribute matchers unwrapped, "
+                            + "e.g. regularFile() rather than is(regularFile())");
+        }
+        return (AttributeMatcher) matcher;
+    }
+
+    @Override
+    protected final boolean matchesSafely(final Path path, final Description mismatchDescription) {
+        final Optional<BasicFileAttributes> attributes;
+        try {
+            attributes = read(path);
+        } catch (final IOException e) {
+            mismatchDescription.appendValue(path).appendText(" could not be read: " + reason(e));
+            return false;
+        }
+        return matchesAttributes(path, attributes, mismatchDescription);
+    }
+
+    /**
+     * Not called for paths whose attributes could not be read, e.g. due to permissions: such
+     * paths do not match.
+     *
+     * @param path the path being matched.
+     * @param attributes the path's attributes, or empty if the path does not exist. Will be an
+     *     instance of {@link PosixFileAttributes} if requested and supported by the file system.
+     * @param mismatchDescription the description to append any mismatch to.
+     * @return {@code true} on match.
+     */
+    abstract boolean matchesAttributes(
+            Path path, Optional<BasicFileAttributes> attributes, Description mismatchDescription);
+
+    private Optional<BasicFileAttributes> read(final Path path) throws IOException {
+        final Class<? extends BasicFileAttributes> type =
+                posix && path.getFileSystem().supportedFileAttributeViews().contains("posix")
+                        ? PosixFileAttributes.class
+                        : BasicFileAttributes.class;
+
+        try {
+            return Optional.of(
+                    Files.readAttributes(
+                            path, type, followLinks ? FOLLOW_LINKS : NO_FOLLOW_LINKS));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String reason(final IOException e) {
+        if (e instanceof FileSystemException && ((FileSystemException) e).getReason() != null) {
+            return ((FileSystemException) e).getReason();
+        }
+        return e.toString();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.creekservice.api.test.hamcrest.BackoffStrategy.Backoff;
+
+/** Implementations of the built-in {@link BackoffStrategy backoff strategies}. */
+final class BackoffStrategies {
+
+    private BackoffStrategies() {}
+
+    static BackoffStrategy exponential(
+            final Duration initial, final Duration max, final boolean jitter) {
+        requirePositive(initial, "initial");
+        requirePositive(max, "max");
+        return () -> new Exponential(initial.toNanos(), max.toNanos(), jitter);
+    }
+
+    /** Exponential backoff, without validation, for backwards compatible default settings. */
+    static BackoffStrategy defaultExponential(final Duration initial, final Duration max) {
+        return () -> new Exponential(initial.toNanos(), max.toNanos(), false);
+    }
+
+    static BackoffStrategy fixed(final Duration delay) {
+        requirePositive(delay, "delay");
+        return () -> () -> delay;
+    }
+
+    static BackoffStrategy fibonacci(final Duration initial, final Duration max) {
+        requirePositive(initial, "initial");
+        requirePositive(max, "max");
+        return () -> new Fibonacci(initial.toNanos(), max.toNanos());
+    }
+
+    static BackoffStrategy spinThenPark(final int spins, final BackoffStrategy then) {
+        requireNonNull(then, "then");
+        if (spins < 0) {
+            throw new IllegalArgumentException("spins can not be negative");
+        }
+        return new SpinThenParkStrategy(spins, then);
+    }
+
+    static BackoffStrategy adaptive(final CallSiteHistory history) {
+        return new AdaptiveStrategy(
+                history, defaultExponential(Duration.ofMillis(1), Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Set the strategy adaptive backoffs fall back to when they have no, or insufficient,
+     * history.
+     *
+     * @param strategy the strategy, which may be, or wrap, an adaptive strategy.
+     * @param fallback the strategy to fall back to.
+     * @return {@code strategy}, with any adaptive backoff falling back to {@code fallback}.
+     */
+    static BackoffStrategy withFallback(
+            final BackoffStrategy strategy, final BackoffStrategy fallback) {
+        return strategy instanceof FallbackAware
+                ? ((FallbackAware) strategy).withFallback(fallback)
+                : strategy;
+    }
+
+    private static void requirePositive(final Duration duration, final String name) {
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+    }
+
+    /** A strategy that is, or wraps, an adaptive strategy. */
+    private interface FallbackAware extends BackoffStrategy {
+
+        BackoffStrategy withFallback(BackoffStrategy fallback);
+    }
+
+    private static final class SpinThenParkStrategy implements FallbackAware {
+
+        private final int spins;
+        private final BackoffStrategy then;
+
+        SpinThenParkStrategy(final int spins, final BackoffStrategy then) {
+            this.spins = spins;
+            this.then = requireNonNull(then, "then");
+        }
+
+        @Override
+        public Backoff start() {
+            return new SpinThenPark(spins, then.start());
+        }
+
+        @Override
+        public BackoffStrategy withFallback(final BackoffStrategy fallback) {
+            return new SpinThenParkStrategy(spins, BackoffStrategies.withFallback(then, fallback));
+        }
+    }
+
+    private static final class AdaptiveStrategy implements FallbackAware {
+
+        private final CallSiteHistory history;
+        private final BackoffStrategy fallback;
+
+        AdaptiveStrategy(final CallSiteHistory history, final BackoffStrategy fallback) {
+            this.history = requireNonNull(history, "history");
+            this.fallback = requireNonNull(fallback, "fallback");
+        }
+
+        @Override
+        public Backoff start() {
+            final String callSite = CallSiteHistory.callSite();
+            return new Adaptive(history, callSite, history.expected(callSite), fallback.start());
+        }
+
+        @Override
+        public BackoffStrategy withFallback(final BackoffStrategy fallback) {
+            return new AdaptiveStrategy(history, fallback);
+        }
+    }
+
+    private static final class Exponential implements Backoff {
+
+        private final long max;
+        private final boolean jitter;
+        private long next;
+
+        Exponential(final long initial, final long max, final boolean jitter) {
+            this.max = max;
+            this.jitter = jitter;
+            this.next = Math.min(initial, max);
+        }
+
+        @Override
+        public Duration nextDelay() {
+            final long delay = next;
+            next = delay > max / 2 ? max : delay * 2;
+            if (!jitter) {
+                return Duration.ofNanos(delay);
+            }
+            final long half = delay / 2;
+            return Duration.ofNanos(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+        }
+    }
+
+    private static final class Fibonacci implements Backoff {
+
+        private final long max;
+        private long current;
+        private long next;
+
+        Fibonacci(final long initial, final long max) {
+            this.max = max;
+            this.current = Math.min(initial, max);
+            this.next = current;
+        }
+
+        @Override
+        public Duration nextDelay() {
+            final long delay = current;
+            current = next;
+            next = delay > max - current ? max : delay + current;
+            return Duration.ofNanos(delay);
+        }
+    }
+
+    private static final class SpinThenPark implements Backoff {
+
+        private final Backoff then;
+        private int spinsRemaining;
+
+        SpinThenPark(final int spins, final Backoff then) {
+            this.spinsRemaining = spins;
+            this.then = requireNonNull(then, "then");
+        }
+
+        @Override
+        public Duration nextDelay() {
+            if (spinsRemaining > 0) {
+                spinsRemaining--;
+                return Duration.ZERO;
+            }
+            return then.nextDelay();
+        }
+
+        @Override
+        public void onSuccess(final Duration elapsed) {
+            then.onSuccess(elapsed);
+        }
+    }
+
+    /**
+     * Waits until a quarter before the expected time-to-success, then polls every eighth of it
+     * until half after, before falling back to another backoff.
+     */
+    private static final class Adaptive implements Backoff {
+
+        private final CallSiteHistory history;
+        private final String callSite;
+        private final long expected;
+        private final Backoff fallback;
+        private long waited;
+
+        Adaptive(
+                final CallSiteHistory history,
+                final String callSite,
+                final Optional<Duration> expected,
+                final Backoff fallback) {
+            this.history = requireNonNull(history, "history");
+            this.callSite = requireNonNull(callSite, "callSite");
+            this.expected = expected.map(Duration::toNanos).orElse(0L);
+            this.fallback = requireNonNull(fallback, "fallback");
+        }
+
+        @Override
+        public Duration nextDelay() {
+            final long delay;
+            if (waited < expected - expected / 4) {
+                delay = expected - expected / 4 - waited;
+            } else if (waited < expected + expected / 2) {
+                delay = Math.max(expected / 8, 1);
+            } else {
+                delay = fallback.nextDelay().toNanos();
+            }
+            waited += delay;
+            return Duration.ofNanos(delay);
+        }
+
+        @Override
+        public void onSuccess(final Duration elapsed) {
+            history.record(callSite, elapsed);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Strategy controlling how long an eventual assertion waits between attempts.
+ *
+ * <p>Custom strategies can be passed to {@link AssertEventually.Settings#withBackoff}.
+ */
+@FunctionalInterface
+public interface BackoffStrategy {
+
+    /**
+     * Called at the start of each assertion.
+     *
+     * @return the backoff state for a single assertion.
+     */
+    Backoff start();
+
+    /** The backoff state of a single assertion. */
+    @FunctionalInterface
+    interface Backoff {
+
+        /**
+         * Called after each failed attempt.
+         *
+         * @return the duration to wait before the next attempt. Zero means retry immediately.
+         */
+        Duration nextDelay();
+
+        /**
+         * Called once the assertion passes.
+         *
+         * @param elapsed the time the assertion took to pass.
+         */
+        default void onSuccess(final Duration elapsed) {}
+    }
+
+    /**
+     * Exponential backoff: the delay doubles after each attempt, up to a maximum.
+     *
+     * <p>This is the default strategy.
+     *
+     * @param initial the initial delay.
+     * @param max the maximum delay.
+     * @return the strategy.
+     */
+    static BackoffStrategy exponential(final Duration initial, final Duration max) {
+        return BackoffStrategies.exponential(initial, max, false);
+    }
+
+    /**
+     * Exponential backoff with jitter.
+     *
+     * <p>As {@link #exponential}, except each delay is randomly chosen between half and all of the
+     * exponential delay, avoiding many concurrent assertions polling in lock step.
+     *
+     * @param initial the initial delay.
+     * @param max the maximum delay.
+     * @return the strategy.
+     */
+    static BackoffStrategy exponentialWithJitter(final Duration initial, final Duration max) {
+        return BackoffStrategies.exponential(initial, max, true);
+    }
+
+    /**
+     * Fixed backoff: the same delay between each attempt.
+     *
+     * @param delay the delay.
+     * @return the strategy.
+     */
+    static BackoffStrategy fixed(final Duration delay) {
+        return BackoffStrategies.fixed(delay);
+    }
+
+    /**
+     * Fibonacci backoff: each delay is the sum of the previous two, up to a maximum.
+     *
+     * <p>Grows more slowly than {@link #exponential}.
+     *
+     * @param initial the initial delay.
+     * @param max the maximum delay.
+     * @return the strategy.
+     */
+    static BackoffStrategy fibonacci(final Duration initial, final Duration max) {
+        return BackoffStrategies.fibonacci(initial, max);
+    }
+
+    /**
+     * Retry immediately, spinning, for the first {@code spins} attempts, then fall back to {@code
+     * then}.
+     *
+     * <p>Suited to asserting on low-latency components, where a condition is expected to be met
+     * within microseconds.
+     *
+     * @param spins the number of attempts to retry immediately.
+     * @param then the strategy to use once spinning is complete.
+     * @return the strategy.
+     */
+    static BackoffStrategy spinThenPark(final int spins, final BackoffStrategy then) {
+        return BackoffStrategies.spinThenPark(spins, then);
+    }
+
+    /**
+     * Adaptive backoff: learns how long each call site takes to pass and concentrates attempts
+     * around that time.
+     *
+     * <p>Call sites are identified by the location of the code calling {@link AssertEventually}.
+     * The first time a call site is seen, the assertion's default exponential backoff, i.e.
+     * from its {@link AssertEventually.Settings#withInitialPeriod initial period} up to its
+     * {@link AssertEventually.Settings#withMaxPeriod maximum period}, is used. Once it has passed,
+     * later assertions from the same call site wait until shortly before the expected time, then
+     * poll frequently until shortly after it, before falling back to exponential backoff.
+     *
+     * <p>Times are held in a JVM-wide table. Use {@link #adaptive(Path)} to share times between
+     * runs.
+     *
+     * @return the strategy.
+     */
+    static BackoffStrategy adaptive() {
+        return BackoffStrategies.adaptive(CallSiteHistory.jvm());
+    }
+
+    /**
+     * Adaptive backoff, persisting learned times to a file.
+     *
+     * <p>As {@link #adaptive()}, except times are loaded from, and saved to, {@code historyFile},
+     * allowing later runs to benefit from times learned in earlier ones. For example, {@code
+     * Path.of("build", "creek-test", "backoff.properties")}.
+     *
+     * <p>The file is read when first used and written once, when the JVM exits. A file that can
+     * not be read is treated as empty, and a failure to write it is logged and ignored.
+     *
+     * @param historyFile the file to load and save times to. Need not exist.
+     * @return the strategy.
+     */
+    static BackoffStrategy adaptive(final Path historyFile) {
+        return BackoffStrategies.adaptive(CallSiteHistory.file(historyFile));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Table of the time each call site took to pass, used by the {@link BackoffStrategy#adaptive
+ * adaptive} backoff strategy.
+ *
+ * <p>Times are smoothed: each new time-to-success is averaged with the previous one.
+ *
+ * <p>Times are only ever held in memory while assertions run. File backed histories are loaded
+ * when first used and saved once, when the JVM exits. Failure to load or save a file is logged
+ * and otherwise ignored: the history is an optimisation and must not fail an assertion.
+ */
+final class CallSiteHistory {
+
+    private static final CallSiteHistory JVM = new CallSiteHistory(Optional.empty());
+
+    private static final Set<Class<?>> INTERNAL =
+            Set.of(
+                    AssertEventually.class,
+                    BackoffStrategy.class,
+                    BackoffStrategies.class,
+                    CallSiteHistory.class);
+
+    private static final StackWalker WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final Optional<Path> file;
+    private final ConcurrentMap<String, Long> nanos = new ConcurrentHashMap<>();
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    /** @return the JVM-wide, in-memory, history. */
+    static CallSiteHistory jvm() {
+        return JVM;
+    }
+
+    /**
+     * @param file the file the history is loaded from and saved to.
+     * @return the history backed by {@code file}, shared by all users of the same file.
+     */
+    static CallSiteHistory file(final Path file) {
+        return Persisted.FILES.computeIfAbsent(
+                file.toAbsolutePath().normalize(), CallSiteHistory::load);
+    }
+
+    /** Save unsaved changes to all file backed histories. */
+    // @VisibleForTesting
+    static void saveAll() {
+        Persisted.FILES.values().forEach(CallSiteHistory::save);
+    }
+
+    /** @return the location of the first stack frame outside the assertion and backoff types. */
+    static String callSite() {
+        return WALKER.walk(
+                frames ->
+                        frames.filter(
+                                        frame ->
+                                                !INTERNAL.contains(
+                                                        frame.getDeclaringClass().getNestHost()))
+                                .findFirst()
+                                .map(
+                                        frame ->
+                                                frame.getClassName()
+                                                        + "."
+                                                        + frame.getMethodName()
+                                                        + ":"
+                                                        + frame.getLineNumber())
+                                .orElse("unknown"));
+    }
+
+    private CallSiteHistory(final Optional<Path> file) {
+        this.file = requireNonNull(file, "file");
+    }
+
+    /**
+     * @param callSite the call site.
+     * @return the smoothed time the call site has previously taken to pass, if known.
+     */
+    Optional<Duration> expected(final String callSite) {
+        return Optional.ofNullable(nanos.get(callSite)).map(Duration::ofNanos);
+    }
+
+    /**
+     * Record the time the call site took to pass.
+     *
+     * @param callSite the call site.
+     * @param elapsed the time taken.
+     */
+    void record(final String callSite, final Duration elapsed) {
+        nanos.merge(callSite, elapsed.toNanos(), (previous, latest) -> (previous + latest) / 2);
+        changed.set(true);
+    }
+
+    private static CallSiteHistory load(final Path path) {
+        final CallSiteHistory history = new CallSiteHistory(Optional.of(path));
+        final Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        } catch (final NoSuchFileException e) {
+            return history;
+        } catch (final IOException | IllegalArgumentException e) {
+            // Unreadable or corrupt: start afresh and overwrite on exit.
+            log("Ignoring unreadable backoff history: " + path, e);
+            return history;
+        }
+
+        props.stringPropertyNames()
+                .forEach(
+                        callSite -> {
+                            try {
+                                history.nanos.put(
+                                        callSite, Long.parseLong(props.getProperty(callSite)));
+                            } catch (final NumberFormatException e) {
+                                // Ignore corrupt entries: they will be relearned.
+                            }
+                        });
+        return history;
+    }
+
+    private void save() {
+        if (file.isEmpty() || !changed.getAndSet(false)) {
+            return;
+        }
+
+        final Path path = file.get();
+        final Properties props = new Properties();
+        nanos.forEach((callSite, time) -> props.setProperty(callSite, String.valueOf(time)));
+
+        try {
+            final Path dir = path.getParent();
+            Files.createDirectories(dir);
+            final Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                props.store(writer, "Time-to-success, in nanoseconds, of eventual assertions");
+            }
+            Files.move(
+                    temp,
+                    path,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            log("Failed to save backoff history: " + path, e);
+        }
+    }
+
+    private static void log(final String message, final Exception e) {
+        System.err.println(message);
+        e.printStackTrace(new PrintWriter(System.err, true, StandardCharsets.UTF_8));
+    }
+
+    /** File backed histories, saved by a single, lazily installed, shutdown hook. */
+    private static final class Persisted {
+
+        static final ConcurrentMap<Path, CallSiteHistory> FILES = new ConcurrentHashMap<>();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(CallSiteHistory::saveAll));
+        }
+
+        private Persisted() {}
+    }
+}
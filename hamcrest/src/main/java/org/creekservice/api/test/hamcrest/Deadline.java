@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * A point in time by which an assertion must complete.
+ *
+ * <p>Measured using {@link System#nanoTime()}, unless a custom clock is supplied.
+ */
+abstract class Deadline {
+
+    /** Bound on nano-second durations, ensuring no overflow when added to nano time. */
+    private static final long MAX_NANOS = Long.MAX_VALUE / 4;
+
+    static Deadline after(final Duration timeout, final Optional<Clock> clock) {
+        return clock.<Deadline>map(c -> new ClockDeadline(timeout, c))
+                .orElseGet(() -> new NanoDeadline(timeout));
+    }
+
+    /** @return {@code true} if the deadline has passed. */
+    abstract boolean expired();
+
+    /** @return the lesser of {@code max} and the time remaining, which is never negative. */
+    abstract Duration remaining(Duration max);
+
+    /** @return the time elapsed since the deadline was created. */
+    abstract Duration elapsed();
+
+    private static long saturatedNanos(final Duration duration) {
+        return duration.compareTo(Duration.ofNanos(MAX_NANOS)) > 0
+                ? MAX_NANOS
+                : Math.max(duration.toNanos(), -MAX_NANOS);
+    }
+
+    private static final class NanoDeadline extends Deadline {
+
+        private final long start;
+        private final long end;
+
+        NanoDeadline(final Duration timeout) {
+            this.start = System.nanoTime();
+            this.end = start + saturatedNanos(timeout);
+        }
+
+        @Override
+        boolean expired() {
+            return System.nanoTime() - end >= 0;
+        }
+
+        @Override
+        Duration remaining(final Duration max) {
+            final long remaining = end - System.nanoTime();
+            if (remaining <= 0) {
+                return Duration.ZERO;
+            }
+            return remaining < saturatedNanos(max) ? Duration.ofNanos(remaining) : max;
+        }
+
+        @Override
+        Duration elapsed() {
+            return Duration.ofNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static final class ClockDeadline extends Deadline {
+
+        private final Clock clock;
+        private final Instant start;
+        private final Instant end;
+
+        ClockDeadline(final Duration timeout, final Clock clock) {
+            this.clock = requireNonNull(clock, "clock");
+            this.start = clock.instant();
+            this.end = start.plus(timeout);
+        }
+
+        @Override
+        boolean expired() {
+            return !clock.instant().isBefore(end);
+        }
+
+        @Override
+        Duration remaining(final Duration max) {
+            final Duration remaining = Duration.between(clock.instant(), end);
+            if (remaining.isNegative()) {
+                return Duration.ZERO;
+            }
+            return remaining.compareTo(max) < 0 ? remaining : max;
+        }
+
+        @Override
+        Duration elapsed() {
+            return Duration.between(start, clock.instant());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Parallel, depth-limited walk of the regular files in a directory tree that match a glob.
+ *
+ * <p>Each directory is listed by its own task on the common {@link ForkJoinPool}, and the walk
+ * stops early once the caller has seen enough. Symbolic links are not followed.
+ */
+final class DirectoryWalk {
+
+    private final Path root;
+    private final PathMatcher glob;
+    private final int maxDepth;
+    private final Predicate<String> onMatch;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    private DirectoryWalk(
+            final Path root,
+            final String glob,
+            final int maxDepth,
+            final Predicate<String> onMatch) {
+        this.root = requireNonNull(root, "root");
+        this.glob = root.getFileSystem().getPathMatcher("glob:" + glob);
+        this.maxDepth = maxDepth;
+        this.onMatch = requireNonNull(onMatch, "onMatch");
+    }
+
+    /**
+     * Walk the regular files under {@code root} whose relative path matches {@code glob}.
+     *
+     * @param root the root of the tree.
+     * @param glob the glob relative paths must match.
+     * @param maxDepth the maximum depth to walk, where {@code 1} is the direct children of root.
+     * @param onMatch called, possibly concurrently, with the relative path of each matching file.
+     *     Returning {@code false} stops the walk early.
+     * @throws IOException on failure to list a directory.
+     */
+    static void walk(
+            final Path root,
+            final String glob,
+            final int maxDepth,
+            final Predicate<String> onMatch)
+            throws IOException {
+        try {
+            final DirectoryWalk walk = new DirectoryWalk(root, glob, maxDepth, onMatch);
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> walk.walkDir(root, 1)));
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @param root the root path.
+     * @param path a path under root.
+     * @return the path, relative to {@code root}, using {@code /} as the separator.
+     */
+    static String relative(final Path root, final Path path) {
+        final List<String> names = new ArrayList<>();
+        root.relativize(path).forEach(name -> names.add(name.toString()));
+        return String.join("/", names);
+    }
+
+    private void walkDir(final Path dir, final int depth) {
+        if (stopped.get()) {
+            return;
+        }
+
+        final List<ForkJoinTask<?>> subDirs = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (final Path entry : entries) {
+                if (stopped.get()) {
+                    return;
+                }
+
+                final BasicFileAttributes attrs =
+                        Files.readAttributes(
+                                entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (attrs.isDirectory() && depth < maxDepth) {
+                    subDirs.add(ForkJoinTask.adapt(() -> walkDir(entry, depth + 1)));
+                } else if (attrs.isRegularFile() && !visit(entry)) {
+                    return;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ForkJoinTask.invokeAll(subDirs);
+    }
+
+    /** @return {@code true} if the walk should continue. */
+    private boolean visit(final Path file) {
+        if (!glob.matches(root.relativize(file)) || onMatch.test(relative(root, file))) {
+            return true;
+        }
+        stopped.set(true);
+        return false;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Streaming access to file content, reading files in fixed size chunks so that memory use is
+ * bounded, regardless of file size.
+ *
+ * <p>Files are read through a buffered channel rather than memory-mapped: a mapped file can not be
+ * deleted on Windows until the mapping is garbage collected.
+ */
+final class FileContent {
+
+    /** The size of each chunk read from a file. */
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    /** Maximum number of bytes of content included in mismatch descriptions. */
+    static final int PREVIEW_SIZE = 1024;
+
+    private static final ConcurrentMap<DigestKey, String> DIGESTS = new ConcurrentHashMap<>();
+
+    private FileContent() {}
+
+    /**
+     * Search a file for a sequence of bytes, stopping at the first match.
+     *
+     * @param path the file to search.
+     * @param target the bytes to search for.
+     * @return {@code true} if the file contains {@code target}.
+     * @throws IOException on failure to read the file.
+     */
+    static boolean contains(final Path path, final byte[] target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return contains(channel, target);
+        }
+    }
+
+    /**
+     * Search a channel for a sequence of bytes, stopping at the first match.
+     *
+     * @param channel the channel to search. Not closed by this method.
+     * @param target the bytes to search for.
+     * @return {@code true} if the channel contains {@code target}.
+     * @throws IOException on failure to read the channel.
+     */
+    static boolean contains(final ReadableByteChannel channel, final byte[] target)
+            throws IOException {
+        if (target.length == 0) {
+            return true;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.max(CHUNK_SIZE, target.length * 2));
+        boolean eof = false;
+        while (!eof) {
+            eof = fill(channel, buffer);
+            buffer.flip();
+            if (indexOf(buffer, target) >= 0) {
+                return true;
+            }
+
+            // Retain the tail of this chunk, in case target spans the chunk boundary:
+            buffer.position(Math.max(0, buffer.limit() - (target.length - 1)));
+            buffer.compact();
+        }
+        return false;
+    }
+
+    /**
+     * Compare the content of two files, stopping at the first difference.
+     *
+     * <p>Files of different sizes are reported as differing at the end of the shorter file.
+     *
+     * @param actual the first file.
+     * @param expected the second file.
+     * @return the offset of the first differing byte, or {@code -1} if the files are the same.
+     * @throws IOException on failure to read either file.
+     */
+    static long mismatch(final Path actual, final Path expected) throws IOException {
+        try (FileChannel a = FileChannel.open(actual, StandardOpenOption.READ);
+                FileChannel e = FileChannel.open(expected, StandardOpenOption.READ)) {
+            final long size = a.size();
+            if (size != e.size()) {
+                return Math.min(size, e.size());
+            }
+
+            final ByteBuffer bufferA = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            final ByteBuffer bufferE = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            for (long offset = 0; offset < size; offset += CHUNK_SIZE) {
+                bufferA.clear();
+                bufferE.clear();
+                fill(a, bufferA);
+                fill(e, bufferE);
+                bufferA.flip();
+                bufferE.flip();
+
+                final int index = bufferA.mismatch(bufferE);
+                if (index >= 0) {
+                    return offset + index;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Compute the digest of a file's content.
+     *
+     * <p>Digests are cached per JVM, keyed by path, algorithm, size and last modified time, so
+     * repeated calls for an unchanged file do not read it again.
+     *
+     * @param path the file to digest.
+     * @param algorithm the name of the {@link MessageDigest} algorithm.
+     * @return the digest, as lowercase hex.
+     * @throws IOException on failure to read the file.
+     */
+    static String digest(final Path path, final String algorithm) throws IOException {
+        final BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        final DigestKey key =
+                new DigestKey(
+                        path.toAbsolutePath().normalize(),
+                        algorithm,
+                        attrs.size(),
+                        attrs.lastModifiedTime());
+
+        final String cached = DIGESTS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final String digest = computeDigest(path, algorithm);
+        DIGESTS.put(key, digest);
+        return digest;
+    }
+
+    /**
+     * Create a message digest for the supplied algorithm.
+     *
+     * @param algorithm the algorithm name.
+     * @return the digest.
+     * @throws IllegalArgumentException if the algorithm is not supported.
+     */
+    static MessageDigest messageDigest(final String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unknown digest algorithm: " + algorithm, e);
+        }
+    }
+
+    private static String computeDigest(final Path path, final String algorithm)
+            throws IOException {
+        final MessageDigest digest = messageDigest(algorithm);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Read a window of a file's content as hex, for use in mismatch descriptions.
+     *
+     * @param path the file to read.
+     * @param offset the offset of the first byte to read.
+     * @param length the maximum number of bytes to read.
+     * @return the bytes read, as space separated hex pairs.
+     * @throws IOException on failure to read the file.
+     */
+    static String hex(final Path path, final long offset, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(offset);
+            fill(channel, buffer);
+        }
+
+        final StringBuilder hex = new StringBuilder();
+        for (int i = 0; i != buffer.position(); ++i) {
+            if (i != 0) {
+                hex.append(' ');
+            }
+            hex.append(String.format("%02x", buffer.get(i)));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Read the start of a file, for use in mismatch descriptions.
+     *
+     * @param path the file to read.
+     * @return up to the first {@link #PREVIEW_SIZE} bytes of the file, as text, with an ellipsis
+     *     and the size of the file appended if the file is larger.
+     * @throws IOException on failure to read the file.
+     */
+    static String preview(final Path path) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(PREVIEW_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            fill(channel, buffer);
+            final String text = new String(buffer.array(), 0, buffer.position(), UTF_8);
+            final long size = channel.size();
+            return size <= PREVIEW_SIZE ? text : text + "... (" + size + " bytes)";
+        }
+    }
+
+    /**
+     * Read the start of a channel, for use in mismatch descriptions.
+     *
+     * @param channel the channel to read. Not closed by this method.
+     * @return up to the first {@link #PREVIEW_SIZE} bytes of the channel, as text, with an
+     *     ellipsis appended if the channel has more content.
+     * @throws IOException on failure to read the channel.
+     */
+    static String preview(final ReadableByteChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(PREVIEW_SIZE + 1);
+        final boolean eof = fill(channel, buffer);
+        final int length = Math.min(buffer.position(), PREVIEW_SIZE);
+        final String text = new String(buffer.array(), 0, length, UTF_8);
+        return eof ? text : text + "...";
+    }
+
+    /**
+     * Fill the remaining space in a buffer from a channel.
+     *
+     * @return {@code true} if the end of the channel was reached.
+     */
+    private static boolean fill(final ReadableByteChannel channel, final ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(final ByteBuffer buffer, final byte[] target) {
+        final byte[] bytes = buffer.array();
+        final int last = buffer.limit() - target.length;
+        for (int i = buffer.position(); i <= last; ++i) {
+            if (bytes[i] == target[0] && regionMatches(bytes, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(
+            final byte[] bytes, final int offset, final byte[] target) {
+        for (int i = 1; i < target.length; ++i) {
+            if (bytes[offset + i] != target[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class DigestKey {
+
+        private final Path path;
+        private final String algorithm;
+        private final long size;
+        private final FileTime lastModified;
+
+        DigestKey(
+                final Path path,
+                final String algorithm,
+                final long size,
+                final FileTime lastModified) {
+            this.path = requireNonNull(path, "path");
+            this.algorithm = requireNonNull(algorithm, "algorithm");
+            this.size = size;
+            this.lastModified = requireNonNull(lastModified, "lastModified");
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final DigestKey that = (DigestKey) o;
+            return size == that.size
+                    && path.equals(that.path)
+                    && algorithm.equals(that.algorithm)
+                    && lastModified.equals(that.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, algorithm, size, lastModified);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Supplier of the lines appended to a, possibly growing, file since the last call.
+ *
+ * <p>Designed for waiting on a line in a log file, without re-reading the file on each poll:
+ *
+ * <pre>{@code
+ * assertThatEventually(FileTail.of(logFile), hasItem(containsString("Service started")));
+ * }</pre>
+ *
+ * <p>The tail remembers the offset it has read up to, and any partial last line, between calls,
+ * so each call reads only newly appended bytes. As each call returns only new lines, matchers
+ * should look for individual lines, e.g. {@code hasItem}.
+ *
+ * <p>If the file is truncated, or replaced, e.g. by log rotation, the tail restarts from the
+ * beginning of the file. Any lines appended to a rotated file after the last call are missed. A
+ * missing file is treated as empty.
+ *
+ * <p>Files are read as {@code UTF-8}. Lines are terminated by {@code \n} or {@code \r\n}.
+ *
+ * <p>Instances are not thread safe.
+ */
+public final class FileTail implements Supplier<List<String>> {
+
+    private final Path path;
+    private final ByteBuffer buffer = ByteBuffer.allocate(FileContent.CHUNK_SIZE);
+    private final ByteArrayOutputStream partial = new ByteArrayOutputStream();
+    private Optional<Object> identity;
+    private long position;
+
+    /**
+     * Tail a file from its beginning.
+     *
+     * <p>The first call returns all complete lines already in the file.
+     *
+     * @param path the file to tail.
+     * @return the tail.
+     */
+    public static FileTail of(final Path path) {
+        return new FileTail(path, false);
+    }
+
+    /**
+     * Tail a file from its current end.
+     *
+     * <p>Only lines appended after this call are returned.
+     *
+     * @param path the file to tail.
+     * @return the tail.
+     */
+    public static FileTail fromEnd(final Path path) {
+        return new FileTail(path, true);
+    }
+
+    private FileTail(final Path path, final boolean fromEnd) {
+        this.path = requireNonNull(path, "path");
+        final Optional<BasicFileAttributes> attrs = attributes();
+        this.identity = attrs.map(FileTail::identity);
+        this.position = fromEnd ? attrs.map(BasicFileAttributes::size).orElse(0L) : 0L;
+    }
+
+    /**
+     * Read lines appended since the last call.
+     *
+     * @return the complete lines appended since the last call, which may be empty.
+     */
+    @Override
+    public List<String> get() {
+        final Optional<BasicFileAttributes> attrs = attributes();
+        if (attrs.isEmpty()) {
+            return List.of();
+        }
+
+        final Object current = identity(attrs.get());
+        if (!identity.map(current::equals).orElse(true) || attrs.get().size() < position) {
+            // Rotated or truncated:
+            position = 0;
+            partial.reset();
+        }
+        identity = Optional.of(current);
+
+        if (attrs.get().size() == position) {
+            return List.of();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return readLines(channel);
+        } catch (final NoSuchFileException e) {
+            return List.of();
+        } catch (final IOException e) {
+            throw new AssertionError("Failed to read file: " + path, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileTail{path=" + path + ", position=" + position + '}';
+    }
+
+    private List<String> readLines(final FileChannel channel) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        final byte[] bytes = buffer.array();
+        buffer.clear();
+        int read = channel.read(buffer, position);
+        while (read > 0) {
+            position += read;
+
+            int start = 0;
+            for (int i = 0; i != read; ++i) {
+                if (bytes[i] == '\n') {
+                    partial.write(bytes, start, i - start);
+                    lines.add(completeLine());
+                    start = i + 1;
+                }
+            }
+            partial.write(bytes, start, read - start);
+
+            buffer.clear();
+            read = channel.read(buffer, position);
+        }
+        return lines;
+    }
+
+    private String completeLine() {
+        final String line = partial.toString(UTF_8);
+        partial.reset();
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private Optional<BasicFileAttributes> attributes() {
+        try {
+            return Optional.of(Files.readAttributes(path, BasicFileAttributes.class));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new AssertionError("Failed to read attributes of file: " + path, e);
+        }
+    }
+
+    /** @return an identifier for the file, which changes if the file is replaced. */
+    private static Object identity(final BasicFileAttributes attrs) {
+        final Object fileKey = attrs.fileKey();
+        return fileKey != null ? fileKey : attrs.creationTime();
+    }
+}
@@ -16,17 +16,39 @@
 
 package org.creekservice.api.test.hamcrest;
 
+import static java.util.Objects.requireNonNull;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import org.hamcrest.Description;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
@@ -36,23 +58,30 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 /** Hamcrest matchers for working with {@link Path paths}. */
 public final class PathMatchers {
 
+    /** Number of bytes around the first difference included in content mismatch descriptions. */
+    private static final int HEX_WINDOW = 16;
+
     private PathMatchers() {}
 
     /**
      * Check a path is a regular file.
      *
+     * <p>Symbolic links are followed. The path's attributes are read once per evaluation.
+     *
      * @return the path matcher
      */
     public static Matcher<Path> regularFile() {
-        return new TypeSafeDiagnosingMatcher<>() {
+        return new AttributeMatcher(false, true) {
             @Override
-            protected boolean matchesSafely(
-                    final Path path, final Description mismatchDescription) {
-                if (!Files.exists(path)) {
+            boolean matchesAttributes(
+                    final Path path,
+                    final Optional<BasicFileAttributes> attributes,
+                    final Description mismatchDescription) {
+                if (attributes.isEmpty()) {
                     mismatchDescription.appendValue(path).appendText(" does not exist");
                     return false;
                 }
-                if (!Files.isRegularFile(path)) {
+                if (!attributes.get().isRegularFile()) {
                     mismatchDescription.appendValue(path).appendText(" is not a regular file");
                     return false;
                 }
@@ -69,18 +98,22 @@ public final class PathMatchers {
     /**
      * Check a path is a directory.
      *
+     * <p>Symbolic links are followed. The path's attributes are read once per evaluation.
+     *
      * @return the path matcher
      */
     public static Matcher<Path> directory() {
-        return new TypeSafeDiagnosingMatcher<>() {
+        return new AttributeMatcher(false, true) {
             @Override
-            protected boolean matchesSafely(
-                    final Path path, final Description mismatchDescription) {
-                if (!Files.exists(path)) {
+            boolean matchesAttributes(
+                    final Path path,
+                    final Optional<BasicFileAttributes> attributes,
+                    final Description mismatchDescription) {
+                if (attributes.isEmpty()) {
                     mismatchDescription.appendValue(path).appendText(" does not exists");
                     return false;
                 }
-                if (!Files.isDirectory(path)) {
+                if (!attributes.get().isDirectory()) {
                     mismatchDescription.appendValue(path).appendText(" is not a directory");
                     return false;
                 }
@@ -94,6 +127,38 @@ public final class PathMatchers {
         };
     }
 
+    /**
+     * Check a path is a symbolic link.
+     *
+     * <p>The link itself is checked: it is not followed, and its target need not exist.
+     *
+     * @return the path matcher
+     */
+    public static Matcher<Path> symbolicLink() {
+        return new AttributeMatcher(false, false) {
+            @Override
+            boolean matchesAttributes(
+                    final Path path,
+                    final Optional<BasicFileAttributes> attributes,
+                    final Description mismatchDescription) {
+                if (attributes.isEmpty()) {
+                    mismatchDescription.appendValue(path).appendText(" does not exist");
+                    return false;
+                }
+                if (!attributes.get().isSymbolicLink()) {
+                    mismatchDescription.appendValue(path).appendText(" is not a symbolic link");
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description.appendText("a symbolic link");
+            }
+        };
+    }
+
     /**
      * Check a path does not exist as a file or directory.
      *
@@ -118,6 +183,179 @@ public final class PathMatchers {
         };
     }
 
+    /**
+     * Check the size of a regular file.
+     *
+     * @param size the expected size, in bytes.
+     * @return the path matcher
+     */
+    public static Matcher<Path> fileSize(final long size) {
+        return fileSize(is(size));
+    }
+
+    /**
+     * Check the size of a regular file matches the supplied {@code sizeMatcher}.
+     *
+     * <p>Symbolic links are followed. The file's content is not read: its attributes are read
+     * once per evaluation.
+     *
+     * @param sizeMatcher the matcher invoked with the size of the file, in bytes.
+     * @return the path matcher
+     */
+    public static Matcher<Path> fileSize(final Matcher<? super Long> sizeMatcher) {
+        requireNonNull(sizeMatcher, "sizeMatcher");
+
+        final AttributeMatcher sizeIsAsExpected =
+                new AttributeMatcher(false, true) {
+                    @Override
+                    boolean matchesAttributes(
+                            final Path path,
+                            final Optional<BasicFileAttributes> attributes,
+                            final Description mismatchDescription) {
+                        final long size = attributes.get().size();
+                        if (sizeMatcher.matches(size)) {
+                            return true;
+                        }
+                        mismatchDescription.appendText("size ");
+                        sizeMatcher.describeMismatch(size, mismatchDescription);
+                        return false;
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("size ").appendDescriptionOf(sizeMatcher);
+                    }
+                };
+
+        return attributes(regularFile(), sizeIsAsExpected);
+    }
+
+    /**
+     * Check the last modified time of a path matches the supplied {@code timeMatcher}.
+     *
+     * <p>Symbolic links are followed. The path's attributes are read once per evaluation.
+     *
+     * @param timeMatcher the matcher invoked with the last modified time of the path.
+     * @return the path matcher
+     */
+    public static Matcher<Path> lastModified(final Matcher<? super Instant> timeMatcher) {
+        requireNonNull(timeMatcher, "timeMatcher");
+
+        return new AttributeMatcher(false, true) {
+            @Override
+            boolean matchesAttributes(
+                    final Path path,
+                    final Optional<BasicFileAttributes> attributes,
+                    final Description mismatchDescription) {
+                if (attributes.isEmpty()) {
+                    mismatchDescription.appendValue(path).appendText(" does not exist");
+                    return false;
+                }
+
+                final Instant time = attributes.get().lastModifiedTime().toInstant();
+                if (timeMatcher.matches(time)) {
+                    return true;
+                }
+                mismatchDescription.appendText("last modified ");
+                timeMatcher.describeMismatch(time, mismatchDescription);
+                return false;
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description.appendText("last modified ").appendDescriptionOf(timeMatcher);
+            }
+        };
+    }
+
+    /**
+     * Check the POSIX permissions of a path.
+     *
+     * @param permissions the expected permissions, in {@link PosixFilePermissions#fromString}
+     *     format, e.g. {@code rw-r--r--}.
+     * @return the path matcher
+     * @throws IllegalArgumentException if {@code permissions} is not valid.
+     */
+    public static Matcher<Path> permissions(final String permissions) {
+        return permissions(PosixFilePermissions.fromString(permissions));
+    }
+
+    /**
+     * Check the POSIX permissions of a path.
+     *
+     * <p>Symbolic links are followed. The path's attributes are read once per evaluation. Paths
+     * on file systems that do not support POSIX permissions, e.g. on Windows, do not match.
+     *
+     * @param permissions the expected permissions.
+     * @return the path matcher
+     */
+    public static Matcher<Path> permissions(final Set<PosixFilePermission> permissions) {
+        final Set<PosixFilePermission> expected = Set.copyOf(permissions);
+
+        return new AttributeMatcher(true, true) {
+            @Override
+            boolean matchesAttributes(
+                    final Path path,
+                    final Optional<BasicFileAttributes> attributes,
+                    final Description mismatchDescription) {
+                if (attributes.isEmpty()) {
+                    mismatchDescription.appendValue(path).appendText(" does not exist");
+                    return false;
+                }
+                if (!(attributes.get() instanceof PosixFileAttributes)) {
+                    mismatchDescription.appendText("POSIX permissions are not supported");
+                    return false;
+                }
+
+                final Set<PosixFilePermission> actual =
+                        ((PosixFileAttributes) attributes.get()).permissions();
+                if (actual.equals(expected)) {
+                    return true;
+                }
+                mismatchDescription
+                        .appendText("permissions were ")
+                        .appendValue(PosixFilePermissions.toString(actual));
+                return false;
+            }
+
+            @Override
+            public void describeTo(final Description description) {
+                description
+                        .appendText("permissions ")
+                        .appendValue(PosixFilePermissions.toString(expected));
+            }
+        };
+    }
+
+    /**
+     * Combine attribute matchers, so that they share a single read of the path's attributes.
+     *
+     * <p>For example, {@code attributes(regularFile(), fileSize(10), permissions("rw-------"))}
+     * reads the file's attributes once, where combining the same matchers with {@link
+     * Matchers#allOf} would read them three times.
+     *
+     * <p>Only the attribute matchers of this class can be combined: {@link #regularFile()}, {@link
+     * #directory()}, {@link #symbolicLink()}, {@link #fileSize}, {@link #lastModified}, {@link
+     * #permissions} and matchers returned by this method. These must be passed as returned,
+     * not wrapped in other matchers: {@code attributes(regularFile(), fileSize(3))} is valid,
+     * whereas {@code attributes(is(regularFile()), fileSize(3))} is not. Mismatch descriptions are
+     * those of the first matcher that fails.
+     *
+     * @param matchers the attribute matchers to combine.
+     * @return the path matcher
+     * @throws IllegalArgumentException if any matcher is not an attribute matcher, including
+     *     attribute matchers wrapped in others, e.g. {@code is(regularFile())}, or if {@link
+     *     #symbolicLink()}, which does not follow links, is combined with matchers that do.
+     */
+    @SafeVarargs
+    public static Matcher<Path> attributes(final Matcher<Path>... matchers) {
+        final List<AttributeMatcher> attributeMatchers = new ArrayList<>(matchers.length);
+        for (final Matcher<Path> matcher : matchers) {
+            attributeMatchers.add(AttributeMatcher.cast(matcher));
+        }
+        return AttributeMatcher.allOf(attributeMatchers);
+    }
+
     /**
      * Check a directory contains files and directories with the supplied {@code names}.
      *
@@ -145,7 +383,7 @@ public final class PathMatchers {
                             return files.map(path::relativize)
                                     .map(Path::toString)
                                     .collect(Collectors.toList());
-                        } catch (IOException e) {
+                        } catch (final IOException e) {
                             throw new AssertionError("Failed to list directory: " + path, e);
                         }
                     }
@@ -157,16 +395,50 @@ public final class PathMatchers {
     /**
      * Check the content of a file contains the supplied {@code text}.
      *
+     * <p>The file is searched in chunks, stopping at the first match, so huge files can be checked
+     * without loading them into memory. Mismatch descriptions include, at most, the first kilobyte
+     * of the file.
+     *
      * @param text the text the file should contain.
      * @return the path matcher
      */
     public static Matcher<Path> fileContains(final String text) {
-        return fileContains(containsString(text));
+        final Matcher<String> textMatcher = containsString(text);
+        final byte[] target = text.getBytes(StandardCharsets.UTF_8);
+
+        final TypeSafeDiagnosingMatcher<Path> contentIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        try {
+                            if (FileContent.contains(path, target)) {
+                                return true;
+                            }
+                            mismatchDescription
+                                    .appendText("content was ")
+                                    .appendValue(FileContent.preview(path));
+                            return false;
+                        } catch (final IOException e) {
+                            throw new AssertionError("Failed to load content from: " + path, e);
+                        }
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("contents is ").appendDescriptionOf(textMatcher);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(contentIsAsExpected);
     }
 
     /**
      * Check the content of a file matches the supplied {@code contentMatcher}.
      *
+     * <p>The whole file is loaded into memory. Prefer {@link #fileContains(String)} for large
+     * files.
+     *
      * @param contentMatcher the matcher that is invoked with the file contents.
      * @return the path matcher
      */
@@ -177,7 +449,7 @@ public final class PathMatchers {
                     protected String featureValueOf(final Path path) {
                         try {
                             return Files.readString(path);
-                        } catch (IOException e) {
+                        } catch (final IOException e) {
                             throw new AssertionError("Failed to load content from: " + path, e);
                         }
                     }
@@ -185,4 +457,604 @@ public final class PathMatchers {
 
         return Matchers.both(is(regularFile())).and(contentIsAsExpected);
     }
+
+    /**
+     * Check at least one line of a file matches the supplied {@code lineMatcher}.
+     *
+     * <p>The file is read lazily, stopping at the first matching line.
+     *
+     * @param lineMatcher the matcher invoked with each line.
+     * @return the path matcher
+     */
+    public static Matcher<Path> anyLine(final Matcher<? super String> lineMatcher) {
+        requireNonNull(lineMatcher, "lineMatcher");
+
+        final TypeSafeDiagnosingMatcher<Path> contentIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        return readLines(
+                                path,
+                                lines -> {
+                                    final Iterator<String> it = lines.iterator();
+                                    long count = 0;
+                                    while (it.hasNext()) {
+                                        count++;
+                                        if (lineMatcher.matches(it.next())) {
+                                            return true;
+                                        }
+                                    }
+                                    mismatchDescription.appendText(
+                                            "none of the " + count + " lines matched");
+                                    return false;
+                                });
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description
+                                .appendText("has a line matching ")
+                                .appendDescriptionOf(lineMatcher);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(contentIsAsExpected);
+    }
+
+    /**
+     * Check every line of a file matches the supplied {@code lineMatcher}.
+     *
+     * <p>The file is read lazily, stopping at the first line that does not match.
+     *
+     * @param lineMatcher the matcher invoked with each line.
+     * @return the path matcher
+     */
+    public static Matcher<Path> everyLine(final Matcher<? super String> lineMatcher) {
+        requireNonNull(lineMatcher, "lineMatcher");
+
+        final TypeSafeDiagnosingMatcher<Path> contentIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        return readLines(
+                                path,
+                                lines -> {
+                                    final Iterator<String> it = lines.iterator();
+                                    long lineNumber = 0;
+                                    while (it.hasNext()) {
+                                        lineNumber++;
+                                        final String line = it.next();
+                                        if (!lineMatcher.matches(line)) {
+                                            mismatchDescription.appendText(
+                                                    "line " + lineNumber + " ");
+                                            lineMatcher.describeMismatch(
+                                                    line, mismatchDescription);
+                                            return false;
+                                        }
+                                    }
+                                    return true;
+                                });
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description
+                                .appendText("has every line matching ")
+                                .appendDescriptionOf(lineMatcher);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(contentIsAsExpected);
+    }
+
+    /**
+     * Check the number of lines in a file.
+     *
+     * @param count the expected number of lines.
+     * @return the path matcher
+     */
+    public static Matcher<Path> lineCount(final long count) {
+        return lineCount(is(count));
+    }
+
+    /**
+     * Check the number of lines in a file matches the supplied {@code countMatcher}.
+     *
+     * <p>Lines are counted as the file is read, without holding the file in memory.
+     *
+     * @param countMatcher the matcher invoked with the number of lines in the file.
+     * @return the path matcher
+     */
+    public static Matcher<Path> lineCount(final Matcher<? super Long> countMatcher) {
+        final FeatureMatcher<Path, Long> countIsAsExpected =
+                new FeatureMatcher<>(countMatcher, "line count", "line count") {
+                    @Override
+                    protected Long featureValueOf(final Path path) {
+                        return readLines(path, Stream::count);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(countIsAsExpected);
+    }
+
+    /**
+     * Check the lines of a file match the supplied {@code linesMatcher}.
+     *
+     * <p>The matcher is invoked with a lazily populated stream of the lines of the file, allowing
+     * it to stop reading once its result is known. The stream is closed once the matcher returns.
+     *
+     * @param linesMatcher the matcher invoked with the lines of the file.
+     * @return the path matcher
+     */
+    public static Matcher<Path> lines(final Matcher<? super Stream<String>> linesMatcher) {
+        requireNonNull(linesMatcher, "linesMatcher");
+
+        final TypeSafeDiagnosingMatcher<Path> contentIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        if (readLines(path, linesMatcher::matches)) {
+                            return true;
+                        }
+
+                        mismatchDescription.appendText("lines ");
+                        return readLines(
+                                path,
+                                lines -> {
+                                    linesMatcher.describeMismatch(lines, mismatchDescription);
+                                    return false;
+                                });
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("lines ").appendDescriptionOf(linesMatcher);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(contentIsAsExpected);
+    }
+
+    /**
+     * Check the content of a file is byte-for-byte the same as the content of {@code expected}.
+     *
+     * <p>File sizes are compared first. Only if they match is content compared, in chunks,
+     * stopping at the first difference, so large files can be compared without loading them into
+     * memory. Mismatch descriptions include the offset of the first difference and the bytes
+     * around it, in hex.
+     *
+     * @param expected the file with the expected content.
+     * @return the path matcher
+     */
+    public static Matcher<Path> sameContentAs(final Path expected) {
+        requireNonNull(expected, "expected");
+
+        final TypeSafeDiagnosingMatcher<Path> contentIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        try {
+                            final long size = Files.size(path);
+                            final long expectedSize = Files.size(expected);
+                            if (size != expectedSize) {
+                                mismatchDescription.appendText(
+                                        "size was " + size + " bytes, expected " + expectedSize);
+                                return false;
+                            }
+
+                            final long offset = FileContent.mismatch(path, expected);
+                            if (offset < 0) {
+                                return true;
+                            }
+
+                            final long start = Math.max(0, offset - HEX_WINDOW / 2);
+                            mismatchDescription.appendText(
+                                    "content differed at offset "
+                                            + offset
+                                            + ", bytes from offset "
+                                            + start
+                                            + " were ["
+                                            + FileContent.hex(path, start, HEX_WINDOW)
+                                            + "], expected ["
+                                            + FileContent.hex(expected, start, HEX_WINDOW)
+                                            + "]");
+                            return false;
+                        } catch (final IOException e) {
+                            throw new AssertionError(
+                                    "Failed to compare content of: " + path + " and " + expected,
+                                    e);
+                        }
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("same content as ").appendValue(expected);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(contentIsAsExpected);
+    }
+
+    /**
+     * Check a directory tree is the same as the {@code expected} tree.
+     *
+     * <p>Trees are compared recursively, by relative path, type, size and content. The content of
+     * files is only compared where sizes match, and comparisons run in parallel. Mismatch
+     * descriptions list the added, removed and changed paths.
+     *
+     * @param expected the root of the expected directory tree.
+     * @return the path matcher
+     */
+    public static Matcher<Path> sameTreeAs(final Path expected) {
+        requireNonNull(expected, "expected");
+
+        final TypeSafeDiagnosingMatcher<Path> treeIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        try {
+                            final TreeDiff diff = TreeDiff.between(path, expected);
+                            if (diff.isEmpty()) {
+                                return true;
+                            }
+                            diff.describeTo(mismatchDescription);
+                            return false;
+                        } catch (final IOException e) {
+                            throw new AssertionError(
+                                    "Failed to compare trees: " + path + " and " + expected, e);
+                        }
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("same tree as ").appendValue(expected);
+                    }
+                };
+
+        return Matchers.both(is(directory())).and(treeIsAsExpected);
+    }
+
+    /**
+     * Check the digest of a file's content.
+     *
+     * <p>The file is streamed through a {@link java.security.MessageDigest}, without loading it
+     * into memory. Digests are cached per JVM, keyed by path, size and last modified time, so
+     * repeated assertions on an unchanged file do not read it again.
+     *
+     * @param algorithm the digest algorithm, e.g. {@code SHA-256}.
+     * @param hex the expected digest, in hex. Case-insensitive.
+     * @return the path matcher
+     * @throws IllegalArgumentException if {@code algorithm} is not supported.
+     */
+    public static Matcher<Path> hasDigest(final String algorithm, final String hex) {
+        requireNonNull(algorithm, "algorithm");
+        requireNonNull(hex, "hex");
+        FileContent.messageDigest(algorithm);
+
+        final TypeSafeDiagnosingMatcher<Path> digestIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        try {
+                            final String digest = FileContent.digest(path, algorithm);
+                            if (digest.equalsIgnoreCase(hex)) {
+                                return true;
+                            }
+                            mismatchDescription
+                                    .appendText(algorithm + " digest was ")
+                                    .appendValue(digest);
+                            return false;
+                        } catch (final IOException e) {
+                            throw new AssertionError("Failed to digest content of: " + path, e);
+                        }
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText(algorithm + " digest ").appendValue(hex);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(digestIsAsExpected);
+    }
+
+    /**
+     * Check the relative paths of the files under a directory that match {@code glob}.
+     *
+     * <p>Equivalent to {@link #containsFilesMatching(String, int, Matcher)} with no depth limit.
+     *
+     * @param glob the glob, e.g. <code>**&#47;*.avro</code>.
+     * @param filesMatcher the matcher invoked with the sorted relative paths of matching files.
+     * @return the path matcher
+     */
+    public static Matcher<Path> containsFilesMatching(
+            final String glob, final Matcher<? super Collection<String>> filesMatcher) {
+        return containsFilesMatching(glob, Integer.MAX_VALUE, filesMatcher);
+    }
+
+    /**
+     * Check the relative paths of the files under a directory that match {@code glob}.
+     *
+     * <p>Directories are listed in parallel and symbolic links are not followed. Paths are
+     * relative to the directory, use {@code /} as a separator, and are matched using {@link
+     * java.nio.file.FileSystem#getPathMatcher} glob syntax. Note: {@code *.avro} only matches files
+     * directly in the directory, <code>**&#47;*.avro</code> only those in subdirectories, and
+     * <code>{*.avro,**&#47;*.avro}</code> matches both.
+     *
+     * @param glob the glob, e.g. <code>**&#47;*.avro</code>.
+     * @param maxDepth the maximum depth to search, where {@code 1} is the directory's own files.
+     * @param filesMatcher the matcher invoked with the sorted relative paths of matching files.
+     * @return the path matcher
+     * @throws IllegalArgumentException if {@code maxDepth} is not positive.
+     */
+    public static Matcher<Path> containsFilesMatching(
+            final String glob,
+            final int maxDepth,
+            final Matcher<? super Collection<String>> filesMatcher) {
+        requireNonNull(glob, "glob");
+        if (maxDepth <= 0) {
+            throw new IllegalArgumentException("maxDepth must be positive: " + maxDepth);
+        }
+
+        final FeatureMatcher<Path, Collection<String>> filesAreAsExpected =
+                new FeatureMatcher<>(filesMatcher, "files matching " + glob, "files") {
+                    @Override
+                    protected Collection<String> featureValueOf(final Path path) {
+                        final Collection<String> files = new ConcurrentLinkedQueue<>();
+                        walk(path, glob, maxDepth, files::add);
+                        return files.stream().sorted().collect(Collectors.toList());
+                    }
+                };
+
+        return Matchers.both(is(directory())).and(filesAreAsExpected);
+    }
+
+    /**
+     * Check a directory contains at least one file matching {@code glob}.
+     *
+     * <p>The search stops at the first matching file. See {@link #containsFilesMatching(String,
+     * int, Matcher)} for details of how paths are matched.
+     *
+     * @param glob the glob, e.g. <code>**&#47;*.avro</code>.
+     * @return the path matcher
+     */
+    public static Matcher<Path> anyFileMatching(final String glob) {
+        requireNonNull(glob, "glob");
+
+        final TypeSafeDiagnosingMatcher<Path> fileFound =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        final AtomicReference<String> found = new AtomicReference<>();
+                        walk(
+                                path,
+                                glob,
+                                Integer.MAX_VALUE,
+                                file -> !found.compareAndSet(null, file));
+                        if (found.get() != null) {
+                            return true;
+                        }
+                        mismatchDescription.appendText("no files matched");
+                        return false;
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("has a file matching ").appendValue(glob);
+                    }
+                };
+
+        return Matchers.both(is(directory())).and(fileFound);
+    }
+
+    /**
+     * Check a directory contains no files matching {@code glob}.
+     *
+     * <p>The search stops at the first matching file, which is reported in the mismatch. See
+     * {@link #containsFilesMatching(String, int, Matcher)} for details of how paths are matched.
+     *
+     * @param glob the glob, e.g. <code>**&#47;*.avro</code>.
+     * @return the path matcher
+     */
+    public static Matcher<Path> noFileMatching(final String glob) {
+        requireNonNull(glob, "glob");
+
+        final TypeSafeDiagnosingMatcher<Path> noFileFound =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        final AtomicReference<String> found = new AtomicReference<>();
+                        walk(
+                                path,
+                                glob,
+                                Integer.MAX_VALUE,
+                                file -> !found.compareAndSet(null, file));
+                        if (found.get() == null) {
+                            return true;
+                        }
+                        mismatchDescription.appendText("found ").appendValue(found.get());
+                        return false;
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description.appendText("has no file matching ").appendValue(glob);
+                    }
+                };
+
+        return Matchers.both(is(directory())).and(noFileFound);
+    }
+
+    /**
+     * Check the decompressed content of a gzip file contains the supplied {@code text}.
+     *
+     * <p>The file is decompressed as it is searched, stopping at the first match, without
+     * extracting it to disk or loading it into memory. Mismatch descriptions include, at most, the
+     * first kilobyte of decompressed content.
+     *
+     * @param text the text the decompressed content should contain.
+     * @return the path matcher
+     */
+    public static Matcher<Path> gzipContains(final String text) {
+        final Matcher<String> textMatcher = containsString(text);
+        final byte[] target = text.getBytes(StandardCharsets.UTF_8);
+
+        final TypeSafeDiagnosingMatcher<Path> contentIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        try {
+                            try (ReadableByteChannel channel = gunzip(path)) {
+                                if (FileContent.contains(channel, target)) {
+                                    return true;
+                                }
+                            }
+                            try (ReadableByteChannel channel = gunzip(path)) {
+                                mismatchDescription
+                                        .appendText("decompressed content was ")
+                                        .appendValue(FileContent.preview(channel));
+                            }
+                            return false;
+                        } catch (final IOException e) {
+                            throw new AssertionError("Failed to decompress content of: " + path, e);
+                        }
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description
+                                .appendText("decompressed contents is ")
+                                .appendDescriptionOf(textMatcher);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(contentIsAsExpected);
+    }
+
+    /**
+     * Check the names of the entries in a zip or jar file.
+     *
+     * <p>Only the archive's central directory is read: no entry is decompressed.
+     *
+     * @param entriesMatcher the matcher invoked with the entry names, in archive order.
+     * @return the path matcher
+     */
+    public static Matcher<Path> zipEntries(
+            final Matcher<? super Collection<String>> entriesMatcher) {
+        final FeatureMatcher<Path, Collection<String>> entriesAreAsExpected =
+                new FeatureMatcher<>(entriesMatcher, "zip entries", "zip entries") {
+                    @Override
+                    protected Collection<String> featureValueOf(final Path path) {
+                        try (ZipFile zip = new ZipFile(path.toFile())) {
+                            return zip.stream().map(ZipEntry::getName).collect(Collectors.toList());
+                        } catch (final IOException e) {
+                            throw new AssertionError("Failed to read zip: " + path, e);
+                        }
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(entriesAreAsExpected);
+    }
+
+    /**
+     * Check the content of an entry in a zip or jar file contains the supplied {@code text}.
+     *
+     * <p>Only the named entry is decompressed, as it is searched, stopping at the first match.
+     * Nothing is extracted to disk. Mismatch descriptions include, at most, the first kilobyte of
+     * the entry's content.
+     *
+     * @param name the name of the entry, e.g. {@code META-INF/MANIFEST.MF}.
+     * @param text the text the entry's content should contain.
+     * @return the path matcher
+     */
+    public static Matcher<Path> zipEntryContains(final String name, final String text) {
+        requireNonNull(name, "name");
+        final Matcher<String> textMatcher = containsString(text);
+        final byte[] target = text.getBytes(StandardCharsets.UTF_8);
+
+        final TypeSafeDiagnosingMatcher<Path> entryIsAsExpected =
+                new TypeSafeDiagnosingMatcher<>() {
+                    @Override
+                    protected boolean matchesSafely(
+                            final Path path, final Description mismatchDescription) {
+                        try (ZipFile zip = new ZipFile(path.toFile())) {
+                            final ZipEntry entry = zip.getEntry(name);
+                            if (entry == null) {
+                                mismatchDescription.appendText("no entry ").appendValue(name);
+                                return false;
+                            }
+                            try (ReadableByteChannel channel = entryChannel(zip, entry)) {
+                                if (FileContent.contains(channel, target)) {
+                                    return true;
+                                }
+                            }
+                            try (ReadableByteChannel channel = entryChannel(zip, entry)) {
+                                mismatchDescription
+                                        .appendText("entry ")
+                                        .appendValue(name)
+                                        .appendText(" content was ")
+                                        .appendValue(FileContent.preview(channel));
+                            }
+                            return false;
+                        } catch (final IOException e) {
+                            throw new AssertionError("Failed to read zip: " + path, e);
+                        }
+                    }
+
+                    @Override
+                    public void describeTo(final Description description) {
+                        description
+                                .appendText("zip entry ")
+                                .appendValue(name)
+                                .appendText(" contents is ")
+                                .appendDescriptionOf(textMatcher);
+                    }
+                };
+
+        return Matchers.both(is(regularFile())).and(entryIsAsExpected);
+    }
+
+    private static <R> R readLines(final Path path, final Function<Stream<String>, R> reader) {
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return reader.apply(lines);
+        } catch (IOException | UncheckedIOException e) {
+            throw new AssertionError("Failed to load content from: " + path, e);
+        }
+    }
+
+    private static ReadableByteChannel gunzip(final Path path) throws IOException {
+        final InputStream file = Files.newInputStream(path);
+        try {
+            return Channels.newChannel(new GZIPInputStream(file, FileContent.CHUNK_SIZE));
+        } catch (final IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    private static ReadableByteChannel entryChannel(final ZipFile zip, final ZipEntry entry)
+            throws IOException {
+        return Channels.newChannel(zip.getInputStream(entry));
+    }
+
+    private static void walk(
+            final Path dir,
+            final String glob,
+            final int maxDepth,
+            final Predicate<String> onMatch) {
+        try {
+            DirectoryWalk.walk(dir, glob, maxDepth, onMatch);
+        } catch (final IOException e) {
+            throw new AssertionError("Failed to list directory: " + dir, e);
+        }
+    }
 }
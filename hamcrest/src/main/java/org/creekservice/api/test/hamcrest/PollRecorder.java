@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import jdk.jfr.FlightRecorder;
+import org.creekservice.api.test.hamcrest.AssertEventually.StatisticsListener;
+
+/** Records the statistics of a single eventual assertion. */
+final class PollRecorder {
+
+    private final Duration timeout;
+    private final StatisticsListener listener;
+    private final Optional<AssertEventuallyEvent> event;
+    private final long start;
+    private long[] supplierNanos = new long[16];
+    private int pollCount;
+    private long matcherNanos;
+
+    PollRecorder(final Duration timeout, final StatisticsListener listener) {
+        this.timeout = requireNonNull(timeout, "timeout");
+        this.listener = requireNonNull(listener, "listener");
+        // Avoid the one-off cost of registering the event unless recording is possible:
+        this.event =
+                FlightRecorder.isInitialized()
+                        ? Optional.of(new AssertEventuallyEvent())
+                        : Optional.empty();
+        this.event.ifPresent(AssertEventuallyEvent::begin);
+        this.start = System.nanoTime();
+    }
+
+    void supplierCalled(final long nanos) {
+        if (pollCount == supplierNanos.length) {
+            supplierNanos = Arrays.copyOf(supplierNanos, pollCount * 2);
+        }
+        supplierNanos[pollCount++] = nanos;
+    }
+
+    void matcherCalled(final long nanos) {
+        matcherNanos += nanos;
+    }
+
+    void complete(final boolean passed) {
+        final PollStatistics stats =
+                new PollStatistics(
+                        passed,
+                        timeout,
+                        Duration.ofNanos(System.nanoTime() - start),
+                        Arrays.copyOf(supplierNanos, pollCount),
+                        matcherNanos);
+
+        event.ifPresent(e -> commit(e, stats));
+        listener.onComplete(stats);
+    }
+
+    private static void commit(final AssertEventuallyEvent event, final PollStatistics stats) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.passed = stats.passed();
+            event.pollCount = stats.pollCount();
+            event.timeout = stats.timeout().toNanos();
+            event.supplierTime = stats.totalSupplierTime().toNanos();
+            event.maxSupplierLatency = stats.supplierLatency(100).toNanos();
+            event.matcherTime = stats.totalMatcherTime().toNanos();
+            event.commit();
+        }
+    }
+}
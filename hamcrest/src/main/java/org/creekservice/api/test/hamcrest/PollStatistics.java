@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Statistics about the polling performed by an eventual assertion.
+ *
+ * <p>Latencies and elapsed time are measured in wall-clock time, regardless of any {@link
+ * AssertEventually.Settings#withClock clock} set on the assertion.
+ */
+public final class PollStatistics {
+
+    private final boolean passed;
+    private final Duration timeout;
+    private final Duration elapsed;
+    private final long[] supplierNanos;
+    private final long matcherNanos;
+
+    PollStatistics(
+            final boolean passed,
+            final Duration timeout,
+            final Duration elapsed,
+            final long[] supplierNanos,
+            final long matcherNanos) {
+        this.passed = passed;
+        this.timeout = requireNonNull(timeout, "timeout");
+        this.elapsed = requireNonNull(elapsed, "elapsed");
+        this.supplierNanos = supplierNanos.clone();
+        this.matcherNanos = matcherNanos;
+        Arrays.sort(this.supplierNanos);
+    }
+
+    /** @return {@code true} if the assertion passed. */
+    public boolean passed() {
+        return passed;
+    }
+
+    /** @return the timeout the assertion was configured with. */
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /** @return the time from the start of the assertion to it passing or failing. */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /** @return the number of times the supplier was called. */
+    public int pollCount() {
+        return supplierNanos.length;
+    }
+
+    /** @return the total time spent in calls to the supplier. */
+    public Duration totalSupplierTime() {
+        return Duration.ofNanos(Arrays.stream(supplierNanos).sum());
+    }
+
+    /** @return the total time spent in calls to the matcher. */
+    public Duration totalMatcherTime() {
+        return Duration.ofNanos(matcherNanos);
+    }
+
+    /** @return the latency of each call to the supplier, in ascending order. */
+    public List<Duration> supplierLatencies() {
+        return Arrays.stream(supplierNanos)
+                .mapToObj(Duration::ofNanos)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * Get a percentile of the supplier latencies, using the nearest-rank method.
+     *
+     * @param percentile the percentile, in the range (0, 100], e.g. {@code 99}.
+     * @return the latency at the requested percentile, or {@link Duration#ZERO} if the supplier
+     *     was never called.
+     */
+    public Duration supplierLatency(final double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be in the range (0, 100]");
+        }
+
+        if (supplierNanos.length == 0) {
+            return Duration.ZERO;
+        }
+
+        final int rank = (int) Math.ceil(percentile / 100 * supplierNanos.length);
+        return Duration.ofNanos(supplierNanos[Math.max(rank, 1) - 1]);
+    }
+
+    @Override
+    public String toString() {
+        return "PollStatistics{"
+                + "passed="
+                + passed
+                + ", timeout="
+                + timeout
+                + ", elapsed="
+                + elapsed
+                + ", pollCount="
+                + pollCount()
+                + ", totalSupplierTime="
+                + totalSupplierTime()
+                + ", p50SupplierLatency="
+                + supplierLatency(50)
+                + ", maxSupplierLatency="
+                + supplierLatency(100)
+                + ", totalMatcherTime="
+                + totalMatcherTime()
+                + '}';
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.hamcrest.Description;
+
+/**
+ * The differences between two directory trees.
+ *
+ * <p>Entries are compared by relative path, type and size. The content of files is only compared,
+ * in parallel, where sizes match.
+ */
+final class TreeDiff {
+
+    /** Maximum number of paths listed per type of difference in descriptions. */
+    private static final int MAX_LISTED = 20;
+
+    private static final long DIRECTORY = -1;
+
+    private final List<String> added = new ArrayList<>();
+    private final List<String> removed = new ArrayList<>();
+    private final List<String> changed = new ArrayList<>();
+
+    /**
+     * Compare two directory trees.
+     *
+     * @param actual the root of the actual tree.
+     * @param expected the root of the expected tree.
+     * @return the differences.
+     * @throws IOException on failure to read either tree.
+     */
+    static TreeDiff between(final Path actual, final Path expected) throws IOException {
+        final Map<String, Long> actualEntries = entries(actual);
+        final Map<String, Long> expectedEntries = entries(expected);
+
+        final TreeDiff diff = new TreeDiff();
+        final List<String> sameSize = new ArrayList<>();
+        actualEntries.forEach(
+                (path, size) -> {
+                    final Long expectedSize = expectedEntries.get(path);
+                    if (expectedSize == null) {
+                        diff.added.add(path);
+                    } else if (!expectedSize.equals(size)) {
+                        diff.changed.add(path);
+                    } else if (size != DIRECTORY) {
+                        sameSize.add(path);
+                    }
+                });
+
+        expectedEntries.keySet().stream()
+                .filter(path -> !actualEntries.containsKey(path))
+                .forEach(diff.removed::add);
+
+        try {
+            diff.changed.addAll(
+                    sameSize.parallelStream()
+                            .filter(path -> !sameContent(actual, expected, path))
+                            .collect(toList()));
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        diff.changed.sort(String::compareTo);
+        return diff;
+    }
+
+    private TreeDiff() {}
+
+    boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    void describeTo(final Description description) {
+        String separator = "";
+        if (!added.isEmpty()) {
+            describe("added", added, description);
+            separator = ", ";
+        }
+        if (!removed.isEmpty()) {
+            describe(separator + "removed", removed, description);
+            separator = ", ";
+        }
+        if (!changed.isEmpty()) {
+            describe(separator + "changed", changed, description);
+        }
+    }
+
+    private static void describe(
+            final String type, final List<String> paths, final Description description) {
+        description
+                .appendText(type)
+                .appendValueList(
+                        ": [",
+                        ", ",
+                        paths.size() > MAX_LISTED
+                                ? "... and " + (paths.size() - MAX_LISTED) + " more]"
+                                : "]",
+                        paths.subList(0, Math.min(paths.size(), MAX_LISTED)));
+    }
+
+    private static boolean sameContent(final Path actual, final Path expected, final String path) {
+        try {
+            return FileContent.mismatch(actual.resolve(path), expected.resolve(path)) < 0;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Map of each path under {@code root}, relative to root and using {@code /} as a separator, to
+     * its size, or {@link #DIRECTORY} for directories.
+     */
+    private static Map<String, Long> entries(final Path root) throws IOException {
+        final Map<String, Long> entries = new TreeMap<>();
+        Files.walkFileTree(
+                root,
+                new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(
+                            final Path dir, final BasicFileAttributes attrs) {
+                        if (!dir.equals(root)) {
+                            entries.put(DirectoryWalk.relative(root, dir), DIRECTORY);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(
+                            final Path file, final BasicFileAttributes attrs) {
+                        entries.put(DirectoryWalk.relative(root, file), attrs.size());
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        return entries;
+    }
+}
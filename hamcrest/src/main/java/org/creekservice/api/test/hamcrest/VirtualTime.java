@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A clock that only moves when advanced, and a sleeper that advances it rather than blocking.
+ *
+ * <p>Pass to both {@link AssertEventually.Settings#withClock} and {@link
+ * AssertEventually.Settings#withSleeper} to have eventual assertions complete without waiting on
+ * wall-clock time:
+ *
+ * <pre>{@code
+ * final VirtualTime time = VirtualTime.create();
+ * assertThatEventually(supplier, matcher, withSettings().withClock(time).withSleeper(time));
+ * }</pre>
+ *
+ * <p>The same instance can be passed to the code under test, so that time-based logic is
+ * asserted deterministically.
+ */
+public final class VirtualTime extends Clock implements AssertEventually.Sleeper {
+
+    private final AtomicReference<Instant> now;
+    private final ZoneId zone;
+
+    /**
+     * Create an instance starting at the {@link Instant#EPOCH epoch}.
+     *
+     * @return the virtual time.
+     */
+    public static VirtualTime create() {
+        return startingAt(Instant.EPOCH);
+    }
+
+    /**
+     * Create an instance starting at the supplied {@code start}.
+     *
+     * @param start the initial instant.
+     * @return the virtual time.
+     */
+    public static VirtualTime startingAt(final Instant start) {
+        requireNonNull(start, "start");
+        return new VirtualTime(new AtomicReference<>(start), ZoneOffset.UTC);
+    }
+
+    private VirtualTime(final AtomicReference<Instant> now, final ZoneId zone) {
+        this.now = requireNonNull(now, "now");
+        this.zone = requireNonNull(zone, "zone");
+    }
+
+    /**
+     * Move time forward.
+     *
+     * @param duration the amount to move time forward by.
+     * @throws IllegalArgumentException if {@code duration} is negative.
+     */
+    public void advance(final Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("duration can not be negative");
+        }
+        now.updateAndGet(instant -> instant.plus(duration));
+    }
+
+    /**
+     * Advances time by {@code duration}, returning immediately.
+     *
+     * @param duration the duration to sleep.
+     */
+    @Override
+    public void sleep(final Duration duration) {
+        advance(duration);
+    }
+
+    @Override
+    public Instant instant() {
+        return now.get();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Get a view of this virtual time in a different zone.
+     *
+     * <p>The returned instance shares the same time source: advancing one advances both.
+     *
+     * @param zone the time-zone to change to.
+     * @return the view.
+     */
+    @Override
+    public VirtualTime withZone(final ZoneId zone) {
+        return new VirtualTime(now, zone);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+
+/**
+ * A signal the system under test can use to wake an eventual assertion, so that it re-checks
+ * immediately, rather than waiting for its next poll.
+ *
+ * <p>Polling remains as a fallback, so a missed signal only delays the assertion, it does not fail
+ * it.
+ */
+@FunctionalInterface
+public interface WakeUpSignal {
+
+    /**
+     * Block until either the signal fires or {@code maxWait} elapses, whichever is first.
+     *
+     * @param maxWait the maximum time to wait.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    void await(Duration maxWait) throws InterruptedException;
+
+    /**
+     * A signal that wakes when the supplied {@code registration} callback is invoked.
+     *
+     * <p>The {@code registration} is called once, with a {@link Runnable} the system under test
+     * should invoke whenever its state changes, e.g. by registering it as a listener. Invocations
+     * that occur while the assertion is not waiting are not lost: the next wait returns
+     * immediately.
+     *
+     * @param registration called to register the wake-up callback.
+     * @return the signal.
+     */
+    static WakeUpSignal fromListener(final Consumer<? super Runnable> registration) {
+        requireNonNull(registration, "registration");
+        final Semaphore permits = new Semaphore(0);
+        registration.accept((Runnable) permits::release);
+        return maxWait -> {
+            if (permits.tryAcquire(maxWait.toNanos(), NANOSECONDS)) {
+                permits.drainPermits();
+            }
+        };
+    }
+
+    /**
+     * A signal that wakes when the supplied {@code condition} is signalled.
+     *
+     * <p>The {@code lock} is acquired while waiting. Signals raised while the assertion is not
+     * waiting are missed, and fallback polling will pick up the change.
+     *
+     * @param lock the lock the {@code condition} belongs to.
+     * @param condition the condition the system under test signals.
+     * @return the signal.
+     */
+    static WakeUpSignal fromCondition(final Lock lock, final Condition condition) {
+        requireNonNull(lock, "lock");
+        requireNonNull(condition, "condition");
+        return maxWait -> {
+            lock.lockInterruptibly();
+            try {
+                condition.awaitNanos(maxWait.toNanos());
+            } finally {
+                lock.unlock();
+            }
+        };
+    }
+
+    /**
+     * A signal that wakes when an element is available in the supplied {@code queue}.
+     *
+     * <p>Elements are consumed and discarded, so the queue should be dedicated to signalling.
+     *
+     * @param queue the queue the system under test adds to on change.
+     * @return the signal.
+     */
+    static WakeUpSignal fromQueue(final BlockingQueue<?> queue) {
+        requireNonNull(queue, "queue");
+        return maxWait -> {
+            if (queue.poll(maxWait.toNanos(), NANOSECONDS) != null) {
+                queue.clear();
+            }
+        };
+    }
+
+    /**
+     * A signal that wakes when the supplied {@code watchService} reports file system events.
+     *
+     * <p>All pending events are consumed and discarded, and their keys reset, so the service
+     * should be dedicated to signalling. The caller remains responsible for registering paths
+     * with, and closing, the service.
+     *
+     * @param watchService the watch service.
+     * @return the signal.
+     */
+    static WakeUpSignal fromWatchService(final WatchService watchService) {
+        requireNonNull(watchService, "watchService");
+        return maxWait -> {
+            WatchKey key = watchService.poll(maxWait.toNanos(), NANOSECONDS);
+            while (key != null) {
+                key.pollEvents();
+                key.reset();
+                key = watchService.poll();
+            }
+        };
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.creekservice.api.test.hamcrest.AssertConsistently.assertThatConsistently;
+import static org.creekservice.api.test.hamcrest.AssertConsistently.withSettings;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.testing.NullPointerTester;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AssertConsistentlyTest {
+
+    @Mock private Supplier<Integer> supplier;
+
+    @BeforeEach
+    void setUp() {
+        when(supplier.get()).thenReturn(3);
+    }
+
+    @Test
+    void shouldThrowNPEs() {
+        new NullPointerTester()
+                .setDefault(AssertConsistently.Settings.class, withSettings())
+                .setDefault(WakeUpSignal.class, maxWait -> {})
+                .testAllPublicStaticMethods(AssertConsistently.class);
+
+        new NullPointerTester().testAllPublicInstanceMethods(withSettings());
+    }
+
+    @Test
+    void shouldPassIfConsistent() {
+        // When:
+        final Integer result =
+                assertThatConsistently(supplier, is(3), withSettings().withDuration(ofMillis(50)));
+
+        // Then:
+        assertThat(result, is(3));
+        final int times = Mockito.mockingDetails(supplier).getInvocations().size();
+        assertThat(times, is(greaterThanOrEqualTo(2)));
+    }
+
+    @Test
+    void shouldRunForDuration() {
+        // Given:
+        final long start = System.currentTimeMillis();
+
+        // When:
+        assertThatConsistently(supplier, is(3), withSettings().withDuration(ofMillis(100)));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(greaterThanOrEqualTo(100L)));
+    }
+
+    @Test
+    void shouldFailOnFirstViolation() {
+        // Given:
+        when(supplier.get()).thenReturn(3, 3, 4, 3);
+        final long start = System.currentTimeMillis();
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatConsistently(
+                                        supplier,
+                                        is(3),
+                                        withSettings().withDuration(ofMinutes(1))));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+        verify(supplier, times(3)).get();
+        assertThat(e.getMessage(), containsString("Condition violated after PT"));
+        assertThat(e.getMessage(), containsString("Expected: is <3>"));
+        assertThat(e.getMessage(), containsString("     but: was <4>"));
+    }
+
+    @Test
+    void shouldAcceptMessage() {
+        // Given:
+        when(supplier.get()).thenReturn(4);
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatConsistently(
+                                        supplier, is(3), withSettings().withMessage("hi")));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("hi"));
+        assertThat(e.getMessage(), containsString("Expected: is <3>"));
+    }
+
+    @Test
+    void shouldAcceptMessageSupplier() {
+        // Given:
+        when(supplier.get()).thenReturn(4);
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatConsistently(
+                                        supplier, is(3), withSettings().withMessage(() -> "hi")));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("hi"));
+    }
+
+    @Test
+    void shouldThrowIfSupplierThrows() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        when(supplier.get()).thenThrow(expected);
+
+        // When:
+        final RuntimeException e =
+                assertThrows(RuntimeException.class, () -> assertThatConsistently(supplier, is(3)));
+
+        // Then:
+        assertThat(e, is(expected));
+    }
+
+    @Test
+    void shouldSampleAtConfiguredRate() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+
+        // When:
+        assertThatConsistently(
+                supplier,
+                is(3),
+                withSettings()
+                        .withDuration(ofSeconds(1))
+                        .withSamplePeriod(ofMillis(100))
+                        .withClock(time)
+                        .withSleeper(time));
+
+        // Then:
+        verify(supplier, times(11)).get();
+    }
+
+    @Test
+    void shouldReportElapsedTimeUsingClock() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        when(supplier.get()).thenReturn(3, 3, 3, 4);
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatConsistently(
+                                        supplier,
+                                        is(3),
+                                        withSettings()
+                                                .withSamplePeriod(ofSeconds(1))
+                                                .withDuration(ofMinutes(1))
+                                                .withClock(time)
+                                                .withSleeper(time)));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Condition violated after PT3S"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidSamplePeriod() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> withSettings().withSamplePeriod(Duration.ZERO));
+    }
+
+    @Test
+    void shouldThrowOnInvalidDuration() {
+        assertThrows(
+                IllegalArgumentException.class, () -> withSettings().withDuration(Duration.ZERO));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> withSettings().withDuration(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void shouldOnlySampleOnSignalInEventDrivenMode() {
+        // Given:
+        final WakeUpSignal neverSignalled = WakeUpSignal.fromListener(listener -> {});
+
+        // When:
+        assertThatConsistently(
+                supplier, is(3), neverSignalled, withSettings().withDuration(ofMillis(50)));
+
+        // Then:
+        verify(supplier, times(2)).get();
+    }
+
+    @Test
+    void shouldDetectViolationOnSignal() {
+        // Given:
+        final AtomicInteger value = new AtomicInteger(3);
+        final AtomicReference<Runnable> listener = new AtomicReference<>();
+        final WakeUpSignal signal = WakeUpSignal.fromListener(listener::set);
+
+        CompletableFuture.runAsync(
+                () -> {
+                    value.set(4);
+                    listener.get().run();
+                },
+                delayedExecutor(10, MILLISECONDS));
+
+        final long start = System.currentTimeMillis();
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        assertThatConsistently(
+                                value::get,
+                                is(3),
+                                signal,
+                                withSettings().withDuration(ofMinutes(1))));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+}
@@ -16,17 +16,29 @@
 
 package org.creekservice.api.test.hamcrest;
 
+import static java.time.Duration.ofHours;
 import static java.time.Duration.ofMillis;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.creekservice.api.test.hamcrest.AssertEventually.RetryOnException;
+import static org.creekservice.api.test.hamcrest.AssertEventually.allEventually;
+import static org.creekservice.api.test.hamcrest.AssertEventually.anyEventually;
+import static org.creekservice.api.test.hamcrest.AssertEventually.assertThatAccumulatedEventually;
 import static org.creekservice.api.test.hamcrest.AssertEventually.assertThatEventually;
+import static org.creekservice.api.test.hamcrest.AssertEventually.assertThatEventuallyAsync;
+import static org.creekservice.api.test.hamcrest.AssertEventually.expectation;
 import static org.creekservice.api.test.hamcrest.AssertEventually.withSettings;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
@@ -34,14 +46,36 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.testing.NullPointerTester;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.creekservice.api.test.hamcrest.AssertEventually.ExceptionFilter;
+import org.creekservice.api.test.hamcrest.AssertEventually.Settings;
+import org.creekservice.api.test.hamcrest.BackoffStrategy.Backoff;
+import org.creekservice.api.test.util.TestPaths;
+import org.hamcrest.CustomMatcher;
+import org.hamcrest.Matcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -52,7 +86,10 @@ import org.mockito.quality.Strictness;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class AssertEventuallyTest {
 
+    private static final String JFR_EVENT_NAME = "org.creekservice.test.AssertEventually";
+
     @Mock private Supplier<Integer> supplier;
+    @TempDir private Path tempDir;
 
     @BeforeEach
     void setUp() {
@@ -63,6 +100,8 @@ class AssertEventuallyTest {
     void shouldThrowNPEs() {
         new NullPointerTester()
                 .setDefault(AssertEventually.Settings.class, withSettings())
+                .setDefault(WakeUpSignal.class, maxWait -> {})
+                .setDefault(Path.class, tempDir)
                 .testAllPublicStaticMethods(AssertEventually.class);
 
         new NullPointerTester().testAllPublicInstanceMethods(withSettings());
@@ -273,4 +312,1010 @@ class AssertEventuallyTest {
         final int times = Mockito.mockingDetails(supplier).getInvocations().size();
         assertThat(times, is(both(greaterThan(1)).and(lessThan(30))));
     }
+
+    @Test
+    void shouldCheckAsSoonAsSignalled() {
+        // Given:
+        final AtomicInteger value = new AtomicInteger(3);
+        final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+        final WakeUpSignal signal = WakeUpSignal.fromListener(listeners::add);
+        final Settings settings =
+                withSettings()
+                        .withInitialPeriod(Duration.ofMinutes(1))
+                        .withMaxPeriod(Duration.ofMinutes(1));
+
+        CompletableFuture.runAsync(
+                () -> {
+                    value.set(4);
+                    listeners.forEach(Runnable::run);
+                },
+                delayedExecutor(10, MILLISECONDS));
+
+        final long start = System.currentTimeMillis();
+
+        // When:
+        final Integer result = assertThatEventually(value::get, is(4), signal, settings);
+
+        // Then:
+        assertThat(result, is(4));
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldFallBackToPollingIfNotSignalled() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+        final WakeUpSignal signal = WakeUpSignal.fromQueue(new LinkedBlockingQueue<>());
+
+        // When:
+        final Integer result = assertThatEventually(it::next, is(4), signal);
+
+        // Then:
+        assertThat(result, is(4));
+    }
+
+    @Test
+    void shouldTimeoutEventuallyWithSignal() {
+        // Given:
+        final WakeUpSignal signal = WakeUpSignal.fromQueue(new LinkedBlockingQueue<>());
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatEventually(
+                                        supplier,
+                                        is(4),
+                                        signal,
+                                        withSettings().withTimeout(ofMillis(1))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Expected: is <4>"));
+        assertThat(e.getMessage(), containsString("     but: was <3>"));
+    }
+
+    @Test
+    void shouldCheckPathAsSoonAsCreated() {
+        // Given:
+        final Path path = tempDir.resolve("file");
+        CompletableFuture.runAsync(
+                () -> TestPaths.write(path, "content"), delayedExecutor(10, MILLISECONDS));
+        final long start = System.currentTimeMillis();
+
+        // When:
+        final Path result =
+                assertThatEventually(
+                        path,
+                        is(PathMatchers.regularFile()),
+                        withSettings()
+                                .withTimeout(Duration.ofMinutes(1))
+                                .withBackoff(BackoffStrategy.fixed(Duration.ofMinutes(1))));
+
+        // Then:
+        assertThat(result, is(path));
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldPollPathIfParentDoesNotExist() {
+        // Given:
+        final Path path = tempDir.resolve("missing").resolve("file");
+        CompletableFuture.runAsync(
+                () -> TestPaths.write(path, "content"), delayedExecutor(10, MILLISECONDS));
+
+        // When:
+        assertThatEventually(path, is(PathMatchers.regularFile()));
+
+        // Then: did not throw.
+    }
+
+    @Test
+    void shouldTimeoutWaitingForPath() {
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatEventually(
+                                        tempDir.resolve("file"),
+                                        is(PathMatchers.regularFile()),
+                                        withSettings().withTimeout(ofMillis(10))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("does not exist"));
+    }
+
+    @Test
+    void shouldTimeoutInVirtualTime() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        final long start = System.currentTimeMillis();
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        assertThatEventually(
+                                supplier,
+                                is(4),
+                                withSettings()
+                                        .withTimeout(Duration.ofHours(1))
+                                        .withClock(time)
+                                        .withSleeper(time)));
+
+        // Then:
+        assertThat(time.instant(), is(greaterThanOrEqualTo(Instant.EPOCH.plus(ofHours(1)))));
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldPassEventuallyInVirtualTime() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        final Instant threshold = Instant.EPOCH.plus(Duration.ofMinutes(10));
+
+        // When:
+        final Instant result =
+                assertThatEventually(
+                        time::instant,
+                        is(greaterThan(threshold)),
+                        withSettings()
+                                .withTimeout(Duration.ofHours(1))
+                                .withClock(time)
+                                .withSleeper(time));
+
+        // Then:
+        assertThat(result, is(lessThan(threshold.plus(Duration.ofSeconds(2)))));
+    }
+
+    @Test
+    void shouldPassEventuallyAsync() throws Exception {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+
+        // When:
+        final CompletableFuture<Integer> result = assertThatEventuallyAsync(it::next, is(4));
+
+        // Then:
+        assertThat(result.get(30, TimeUnit.SECONDS), is(4));
+    }
+
+    @Test
+    void shouldNotBlockCallerAsync() {
+        // When:
+        final CompletableFuture<Integer> result =
+                assertThatEventuallyAsync(
+                        supplier, is(4), withSettings().withTimeout(Duration.ofMinutes(1)));
+
+        // Then:
+        assertThat(result.isDone(), is(false));
+        result.cancel(false);
+    }
+
+    @Test
+    void shouldTimeoutEventuallyAsync() {
+        // Given:
+        final CompletableFuture<Integer> result =
+                assertThatEventuallyAsync(
+                        supplier, is(4), withSettings().withTimeout(ofMillis(1)).withMessage("hi"));
+
+        // When:
+        final ExecutionException e =
+                assertThrows(ExecutionException.class, () -> result.get(30, TimeUnit.SECONDS));
+
+        // Then:
+        assertThat(e.getCause(), is(instanceOf(AssertionError.class)));
+        assertThat(e.getCause().getMessage(), containsString("hi"));
+        assertThat(e.getCause().getMessage(), containsString("Expected: is <4>"));
+        assertThat(e.getCause().getMessage(), containsString("     but: was <3>"));
+    }
+
+    @Test
+    void shouldFailOnExceptionAsync() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        when(supplier.get()).thenThrow(expected);
+
+        // When:
+        final ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> assertThatEventuallyAsync(supplier, is(4)).get(30, TimeUnit.SECONDS));
+
+        // Then:
+        assertThat(e.getCause(), is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldFailOnErrorAsync() {
+        // Given:
+        final Error expected = new ExceptionInInitializerError("boom");
+        when(supplier.get()).thenThrow(expected);
+
+        // When:
+        final ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> assertThatEventuallyAsync(supplier, is(4)).get(30, TimeUnit.SECONDS));
+
+        // Then:
+        assertThat(e.getCause(), is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldRetryOnExceptionAsync() throws Exception {
+        // Given:
+        when(supplier.get()).thenThrow(new RuntimeException("boom")).thenReturn(3, 4);
+
+        // When:
+        final CompletableFuture<Integer> result =
+                assertThatEventuallyAsync(
+                        supplier, is(4), withSettings().withExceptionFilter(RetryOnException));
+
+        // Then:
+        assertThat(result.get(30, TimeUnit.SECONDS), is(4));
+    }
+
+    @Test
+    void shouldStopAttemptsOnCancelAsync() throws Exception {
+        // Given:
+        final CompletableFuture<Integer> result =
+                assertThatEventuallyAsync(
+                        supplier,
+                        is(4),
+                        withSettings()
+                                .withMaxPeriod(ofMillis(1))
+                                .withTimeout(Duration.ofMinutes(1)));
+
+        // When:
+        result.cancel(false);
+
+        // Then:
+        Thread.sleep(20);
+        final int times = Mockito.mockingDetails(supplier).getInvocations().size();
+        Thread.sleep(20);
+        assertThat(Mockito.mockingDetails(supplier).getInvocations().size(), is(times));
+    }
+
+    @Test
+    void shouldPassWhenAllEventuallyMet() {
+        // Given:
+        final Iterator<Integer> it0 = List.of(1, 2, 3, 4).iterator();
+        final Iterator<String> it1 = List.of("a", "b").iterator();
+
+        // When:
+        allEventually(expectation(it0::next, is(4)), expectation(it1::next, is("b")));
+
+        // Then: did not throw.
+    }
+
+    @Test
+    void shouldNotPollMetExpectationsAgain() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+
+        // When:
+        allEventually(expectation(supplier, is(3)), expectation(it::next, is(4)));
+
+        // Then:
+        verify(supplier, times(1)).get();
+    }
+
+    @Test
+    void shouldReportAllUnmetExpectations() {
+        // Given:
+        final Supplier<String> other = () -> "a";
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                allEventually(
+                                        withSettings().withTimeout(ofMillis(1)).withMessage("hi"),
+                                        expectation(supplier, is(4)),
+                                        expectation(supplier, is(3)),
+                                        expectation(other, is("b"))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("hi"));
+        assertThat(e.getMessage(), containsString("Expectation 1 of 3:"));
+        assertThat(e.getMessage(), containsString("Expected: is <4>"));
+        assertThat(e.getMessage(), containsString("     but: was <3>"));
+        assertThat(e.getMessage(), not(containsString("Expectation 2 of 3:")));
+        assertThat(e.getMessage(), containsString("Expectation 3 of 3:"));
+        assertThat(e.getMessage(), containsString("Expected: is \"b\""));
+        assertThat(e.getMessage(), containsString("     but: was \"a\""));
+    }
+
+    @Test
+    void shouldShareSingleTimeoutAcrossExpectations() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        allEventually(
+                                withSettings()
+                                        .withTimeout(ofMillis(100))
+                                        .withClock(time)
+                                        .withSleeper(time),
+                                expectation(supplier, is(4)),
+                                expectation(supplier, is(5)),
+                                expectation(supplier, is(6))));
+
+        // Then: one 100ms timeout in total, not one per expectation:
+        assertThat(time.instant(), is(Instant.EPOCH.plus(ofMillis(100))));
+    }
+
+    @Test
+    void shouldReportExceptionsOfUnmetExpectationsWhenRetrying() {
+        // Given:
+        when(supplier.get()).thenThrow(new IllegalStateException("boom"));
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                allEventually(
+                                        withSettings()
+                                                .withTimeout(ofMillis(1))
+                                                .withExceptionFilter(RetryOnException),
+                                        expectation(supplier, is(4))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("     but: threw <"));
+        assertThat(e.getMessage(), containsString("boom"));
+    }
+
+    @Test
+    void shouldFailAllEventuallyOnException() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        when(supplier.get()).thenThrow(expected);
+
+        // When:
+        final RuntimeException e =
+                assertThrows(
+                        RuntimeException.class,
+                        () -> allEventually(expectation(supplier, is(4))));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldPassWhenAnyEventuallyMet() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+
+        // When:
+        anyEventually(expectation(supplier, is(4)), expectation(it::next, is(4)));
+
+        // Then: did not throw.
+    }
+
+    @Test
+    void shouldReportAllExpectationsIfNoneMet() {
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                anyEventually(
+                                        withSettings().withTimeout(ofMillis(1)),
+                                        expectation(supplier, is(4)),
+                                        expectation(supplier, is(5))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Expectation 1 of 2:"));
+        assertThat(e.getMessage(), containsString("Expected: is <4>"));
+        assertThat(e.getMessage(), containsString("Expectation 2 of 2:"));
+        assertThat(e.getMessage(), containsString("Expected: is <5>"));
+    }
+
+    @Test
+    void shouldThrowOnNoExpectations() {
+        assertThrows(IllegalArgumentException.class, AssertEventually::allEventually);
+        assertThrows(IllegalArgumentException.class, AssertEventually::anyEventually);
+    }
+
+    @Test
+    void shouldThrowOnInvalidPollTimeout() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> withSettings().withPollTimeout(Duration.ZERO));
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> withSettings().withPollTimeout(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void shouldAbandonStuckPolls() {
+        // Given:
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final Supplier<Integer> stuckOnce =
+                () -> {
+                    if (calls.incrementAndGet() == 1) {
+                        blockUntilInterrupted(interrupted);
+                    }
+                    return 4;
+                };
+
+        // When:
+        final Integer result =
+                assertThatEventually(
+                        stuckOnce, is(4), withSettings().withPollTimeout(ofMillis(50)));
+
+        // Then:
+        assertThat(result, is(4));
+        assertThatEventually(interrupted::get, is(true));
+    }
+
+    @Test
+    void shouldHoldTimeoutWithStuckSupplier() {
+        // Given:
+        final Supplier<Integer> stuck =
+                () -> {
+                    blockUntilInterrupted(new AtomicBoolean());
+                    return 4;
+                };
+        final long start = System.currentTimeMillis();
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatEventually(
+                                        stuck,
+                                        is(4),
+                                        withSettings()
+                                                .withTimeout(ofMillis(100))
+                                                .withPollTimeout(ofMillis(50))
+                                                .withMessage("hi")));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+        assertThat(e.getMessage(), containsString("hi"));
+        assertThat(e.getMessage(), containsString("Expected: is <4>"));
+        assertThat(
+                e.getMessage(),
+                containsString("     but: supplier did not return within poll timeout of PT0.05S"));
+    }
+
+    @Test
+    void shouldFailOnExceptionWithPollTimeout() {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        when(supplier.get()).thenThrow(expected);
+
+        // When:
+        final RuntimeException e =
+                assertThrows(
+                        RuntimeException.class,
+                        () ->
+                                assertThatEventually(
+                                        supplier,
+                                        is(4),
+                                        withSettings().withPollTimeout(Duration.ofSeconds(30))));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldReportStuckExpectations() {
+        // Given:
+        final Supplier<Integer> stuck =
+                () -> {
+                    blockUntilInterrupted(new AtomicBoolean());
+                    return 4;
+                };
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                allEventually(
+                                        withSettings()
+                                                .withTimeout(ofMillis(100))
+                                                .withPollTimeout(ofMillis(50)),
+                                        expectation(stuck, is(4))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Expected: is <4>"));
+        assertThat(e.getMessage(), containsString("supplier did not return within poll timeout"));
+    }
+
+    private static void blockUntilInterrupted(final AtomicBoolean interrupted) {
+        try {
+            new CountDownLatch(1).await();
+        } catch (final InterruptedException e) {
+            interrupted.set(true);
+        }
+    }
+
+    @Test
+    void shouldReportStatisticsOnPass() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+        final AtomicReference<PollStatistics> stats = new AtomicReference<>();
+
+        // When:
+        assertThatEventually(it::next, is(4), withSettings().withStatisticsListener(stats::set));
+
+        // Then:
+        assertThat(stats.get().passed(), is(true));
+        assertThat(stats.get().pollCount(), is(4));
+        assertThat(stats.get().supplierLatencies(), hasSize(4));
+        assertThat(stats.get().timeout(), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void shouldReportStatisticsOnFailure() {
+        // Given:
+        final AtomicReference<PollStatistics> stats = new AtomicReference<>();
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        assertThatEventually(
+                                supplier,
+                                is(4),
+                                withSettings()
+                                        .withTimeout(ofMillis(10))
+                                        .withStatisticsListener(stats::set)));
+
+        // Then:
+        assertThat(stats.get().passed(), is(false));
+        assertThat(stats.get().pollCount(), is(greaterThanOrEqualTo(2)));
+        assertThat(stats.get().elapsed(), is(greaterThanOrEqualTo(ofMillis(10))));
+    }
+
+    @Test
+    void shouldReportStatisticsForMultipleExpectations() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+        final AtomicReference<PollStatistics> stats = new AtomicReference<>();
+
+        // When:
+        allEventually(
+                withSettings().withStatisticsListener(stats::set),
+                expectation(supplier, is(3)),
+                expectation(it::next, is(4)));
+
+        // Then:
+        assertThat(stats.get().passed(), is(true));
+        assertThat(stats.get().pollCount(), is(5));
+    }
+
+    @Test
+    void shouldReportStatisticsAsync() throws Exception {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+        final CompletableFuture<PollStatistics> stats = new CompletableFuture<>();
+
+        // When:
+        assertThatEventuallyAsync(
+                        it::next, is(4), withSettings().withStatisticsListener(stats::complete))
+                .get(30, TimeUnit.SECONDS);
+
+        // Then:
+        assertThat(stats.get(30, TimeUnit.SECONDS).passed(), is(true));
+        assertThat(stats.get(30, TimeUnit.SECONDS).pollCount(), is(4));
+    }
+
+    @Test
+    void shouldReportStatisticsOnCancelAsync() throws Exception {
+        // Given:
+        final CompletableFuture<PollStatistics> stats = new CompletableFuture<>();
+        final CompletableFuture<Integer> result =
+                assertThatEventuallyAsync(
+                        supplier,
+                        is(4),
+                        withSettings()
+                                .withMaxPeriod(ofMillis(1))
+                                .withTimeout(Duration.ofMinutes(1))
+                                .withStatisticsListener(stats::complete));
+
+        // When:
+        result.cancel(false);
+
+        // Then:
+        assertThat(stats.get(30, TimeUnit.SECONDS).passed(), is(false));
+    }
+
+    @Test
+    void shouldRecordJfrEvents() throws Exception {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+        final Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(JFR_EVENT_NAME);
+            recording.start();
+
+            // When:
+            assertThatEventually(it::next, is(4));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then:
+        final List<RecordedEvent> events =
+                RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().equals(JFR_EVENT_NAME))
+                        .collect(Collectors.toList());
+
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getBoolean("passed"), is(true));
+        assertThat(events.get(0).getInt("pollCount"), is(4));
+        assertThat(events.get(0).getDuration("timeout"), is(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void shouldAcceptCustomBackoff() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        final AtomicReference<PollStatistics> stats = new AtomicReference<>();
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        assertThatEventually(
+                                supplier,
+                                is(4),
+                                withSettings()
+                                        .withTimeout(Duration.ofMinutes(10))
+                                        .withBackoff(BackoffStrategy.fixed(Duration.ofMinutes(1)))
+                                        .withClock(time)
+                                        .withSleeper(time)
+                                        .withStatisticsListener(stats::set)));
+
+        // Then:
+        assertThat(stats.get().pollCount(), is(11));
+    }
+
+    @Test
+    void shouldNotifyBackoffOfSuccess() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+        final AtomicReference<Duration> elapsed = new AtomicReference<>();
+        final BackoffStrategy strategy =
+                () ->
+                        new Backoff() {
+                            @Override
+                            public Duration nextDelay() {
+                                return Duration.ofMinutes(1);
+                            }
+
+                            @Override
+                            public void onSuccess(final Duration duration) {
+                                elapsed.set(duration);
+                            }
+                        };
+
+        // When:
+        assertThatEventually(
+                it::next,
+                is(4),
+                withSettings().withBackoff(strategy).withClock(time).withSleeper(time));
+
+        // Then:
+        assertThat(elapsed.get(), is(Duration.ofMinutes(3)));
+    }
+
+    @Test
+    void shouldSleepForSubMillisecondPeriods() throws Exception {
+        // Given:
+        final Duration period = Duration.ofNanos(200_000);
+        final long start = System.nanoTime();
+
+        // When:
+        AssertEventually.ThreadSleeper.sleep(period);
+
+        // Then:
+        assertThat(System.nanoTime() - start, is(greaterThanOrEqualTo(period.toNanos())));
+    }
+
+    @Test
+    void shouldThrowIfInterruptedWhileSleeping() {
+        // Given:
+        Thread.currentThread().interrupt();
+
+        // Then:
+        assertThrows(
+                InterruptedException.class,
+                () -> AssertEventually.ThreadSleeper.sleep(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void shouldSpinThenPark() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3, 4).iterator();
+
+        // When:
+        final Integer result =
+                assertThatEventually(
+                        it::next,
+                        is(4),
+                        withSettings()
+                                .withBackoff(
+                                        BackoffStrategy.spinThenPark(
+                                                10, BackoffStrategy.fixed(Duration.ofMinutes(1)))));
+
+        // Then:
+        assertThat(result, is(4));
+    }
+
+    @Test
+    void shouldAccumulateIteratorItems() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 2, 3).iterator();
+
+        // When:
+        final List<Integer> result = assertThatAccumulatedEventually(it, contains(1, 2, 3));
+
+        // Then:
+        assertThat(result, contains(1, 2, 3));
+    }
+
+    @Test
+    void shouldOnlyReadNewItemsOnEachPoll() {
+        // Given:
+        final List<Integer> source = new CopyOnWriteArrayList<>();
+        final AtomicInteger reads = new AtomicInteger();
+        final Iterator<Integer> it =
+                new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < source.size();
+                    }
+
+                    @Override
+                    public Integer next() {
+                        reads.incrementAndGet();
+                        return source.get(next++);
+                    }
+                };
+
+        CompletableFuture.runAsync(() -> source.add(1), delayedExecutor(5, MILLISECONDS))
+                .thenRunAsync(() -> source.add(2), delayedExecutor(5, MILLISECONDS));
+
+        // When:
+        assertThatAccumulatedEventually(it, contains(1, 2));
+
+        // Then:
+        assertThat(reads.get(), is(2));
+    }
+
+    @Test
+    void shouldAccumulateQueueItems() {
+        // Given:
+        final LinkedBlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        CompletableFuture.runAsync(() -> queue.add("a"), delayedExecutor(5, MILLISECONDS))
+                .thenRunAsync(() -> queue.add("b"), delayedExecutor(5, MILLISECONDS));
+
+        // When:
+        final List<String> result = assertThatAccumulatedEventually(queue, contains("a", "b"));
+
+        // Then:
+        assertThat(result, contains("a", "b"));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldTimeoutAccumulatingItems() {
+        // Given:
+        final LinkedBlockingQueue<String> queue = new LinkedBlockingQueue<>(List.of("a"));
+
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatAccumulatedEventually(
+                                        queue,
+                                        contains("a", "b"),
+                                        withSettings().withTimeout(ofMillis(1))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Expected: iterable containing [\"a\", \"b\"]"));
+    }
+
+    @Test
+    void shouldAccumulatePublishedItems() {
+        // Given:
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            CompletableFuture.runAsync(
+                    () -> {
+                        assertThatEventually(publisher::hasSubscribers, is(true));
+                        publisher.submit(1);
+                        publisher.submit(2);
+                    });
+
+            // When:
+            final List<Integer> result =
+                    assertThatAccumulatedEventually(publisher, contains(1, 2));
+
+            // Then:
+            assertThat(result, contains(1, 2));
+        }
+    }
+
+    @Test
+    void shouldCancelSubscriptionOnceComplete() {
+        // Given:
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            CompletableFuture.runAsync(
+                    () -> {
+                        assertThatEventually(publisher::hasSubscribers, is(true));
+                        publisher.submit(1);
+                    });
+
+            // When:
+            assertThatAccumulatedEventually(publisher, contains(1));
+
+            // Then:
+            assertThatEventually(publisher::hasSubscribers, is(false));
+        }
+    }
+
+    @Test
+    void shouldFailOnPublisherError() {
+        // Given:
+        final RuntimeException cause = new RuntimeException("boom");
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            CompletableFuture.runAsync(
+                    () -> publisher.closeExceptionally(cause), delayedExecutor(5, MILLISECONDS));
+
+            // When:
+            final RuntimeException e =
+                    assertThrows(
+                            RuntimeException.class,
+                            () -> assertThatAccumulatedEventually(publisher, contains(1)));
+
+            // Then:
+            assertThat(e.getMessage(), is("Publisher failed: boom"));
+            assertThat(e.getCause(), is(sameInstance(cause)));
+        }
+    }
+
+    @Test
+    void shouldNotReEvaluateMatcherWhileInstanceUnchanged() {
+        // Given:
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        assertThatEventually(
+                                supplier,
+                                counting(is(4), evaluations),
+                                withSettings()
+                                        .withTimeout(ofMillis(20))
+                                        .withChangeDetection()));
+
+        // Then:
+        assertThat(
+                Mockito.mockingDetails(supplier).getInvocations().size(), is(greaterThan(1)));
+        assertThat(evaluations.get(), is(1));
+    }
+
+    @Test
+    void shouldReEvaluateMatcherWhenFingerprintChanges() {
+        // Given:
+        final Iterator<Integer> it = List.of(1, 1, 1, 2).iterator();
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        // When:
+        assertThatEventually(
+                it::next,
+                counting(is(2), evaluations),
+                withSettings().withChangeDetection(Integer.class, value -> value % 2));
+
+        // Then:
+        assertThat(evaluations.get(), is(2));
+    }
+
+    @Test
+    void shouldThrowIfSuppliedValueNotOfFingerprintType() {
+        // Given:
+        final Settings settings = withSettings().withChangeDetection(Integer.class, value -> value);
+
+        // When:
+        final ClassCastException e =
+                assertThrows(
+                        ClassCastException.class,
+                        () -> assertThatEventually(() -> "a", is("a"), settings));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("java.lang.Integer"));
+    }
+
+    @Test
+    void shouldFailWithLastObservedValueWithChangeDetection() {
+        // When:
+        final AssertionError e =
+                assertThrows(
+                        AssertionError.class,
+                        () ->
+                                assertThatEventually(
+                                        supplier,
+                                        is(4),
+                                        withSettings()
+                                                .withMessage("msg")
+                                                .withInitialPeriod(ofMillis(50))
+                                                .withTimeout(ofMillis(1))
+                                                .withChangeDetection()));
+
+        // Then:
+        verify(supplier, times(1)).get();
+        assertThat(
+                e.getMessage(),
+                is(
+                        "msg"
+                                + System.lineSeparator()
+                                + "Expected: is <4>"
+                                + System.lineSeparator()
+                                + "     but: was <3>"));
+    }
+
+    @Test
+    void shouldNotPollExpectationsAgainOnTimeoutWithChangeDetection() {
+        // When:
+        assertThrows(
+                AssertionError.class,
+                () ->
+                        allEventually(
+                                withSettings()
+                                        .withInitialPeriod(ofMillis(50))
+                                        .withTimeout(ofMillis(1))
+                                        .withChangeDetection(),
+                                expectation(supplier, is(4))));
+
+        // Then:
+        verify(supplier, times(1)).get();
+    }
+
+    @Test
+    void shouldDetectNewlyAccumulatedItemsByIdentity() {
+        // Given:
+        final LinkedBlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        CompletableFuture.runAsync(() -> queue.add("a"), delayedExecutor(5, MILLISECONDS))
+                .thenRunAsync(() -> queue.add("b"), delayedExecutor(5, MILLISECONDS));
+
+        // When:
+        final List<String> result =
+                assertThatAccumulatedEventually(
+                        queue, contains("a", "b"), withSettings().withChangeDetection());
+
+        // Then:
+        assertThat(result, contains("a", "b"));
+    }
+
+    private static <T> Matcher<T> counting(final Matcher<T> delegate, final AtomicInteger count) {
+        return new CustomMatcher<>(delegate.toString()) {
+            @Override
+            public boolean matches(final Object actual) {
+                count.incrementAndGet();
+                return delegate.matches(actual);
+            }
+        };
+    }
 }
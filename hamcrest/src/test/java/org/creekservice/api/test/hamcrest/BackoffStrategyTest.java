@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.testing.NullPointerTester;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.creekservice.api.test.hamcrest.BackoffStrategy.Backoff;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BackoffStrategyTest {
+
+    @TempDir private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        // Save histories while the temp directory exists, rather than on exit:
+        CallSiteHistory.saveAll();
+    }
+
+    @Test
+    void shouldThrowNPEs() {
+        new NullPointerTester()
+                .setDefault(Duration.class, ofMillis(1))
+                .setDefault(BackoffStrategy.class, BackoffStrategy.fixed(ofMillis(1)))
+                .testAllPublicStaticMethods(BackoffStrategy.class);
+    }
+
+    @Test
+    void shouldBackoffExponentially() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.exponential(ofMillis(1), ofMillis(10));
+
+        // Then:
+        assertThat(
+                delays(strategy.start(), 6),
+                contains(
+                        ofMillis(1),
+                        ofMillis(2),
+                        ofMillis(4),
+                        ofMillis(8),
+                        ofMillis(10),
+                        ofMillis(10)));
+    }
+
+    @Test
+    void shouldCapInitialDelayAtMax() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.exponential(ofMillis(20), ofMillis(10));
+
+        // Then:
+        assertThat(delays(strategy.start(), 2), contains(ofMillis(10), ofMillis(10)));
+    }
+
+    @Test
+    void shouldBackoffExponentiallyWithJitter() {
+        // Given:
+        final Backoff backoff =
+                BackoffStrategy.exponentialWithJitter(ofMillis(8), ofMillis(32)).start();
+
+        // Then:
+        assertThat(backoff.nextDelay(), is(between(ofMillis(4), ofMillis(8))));
+        assertThat(backoff.nextDelay(), is(between(ofMillis(8), ofMillis(16))));
+        assertThat(backoff.nextDelay(), is(between(ofMillis(16), ofMillis(32))));
+        assertThat(backoff.nextDelay(), is(between(ofMillis(16), ofMillis(32))));
+    }
+
+    @Test
+    void shouldBackoffByFixedDelay() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.fixed(ofMillis(3));
+
+        // Then:
+        assertThat(delays(strategy.start(), 3), contains(ofMillis(3), ofMillis(3), ofMillis(3)));
+    }
+
+    @Test
+    void shouldBackoffByFibonacci() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.fibonacci(ofMillis(1), ofMillis(10));
+
+        // Then:
+        assertThat(
+                delays(strategy.start(), 8),
+                contains(
+                        ofMillis(1),
+                        ofMillis(1),
+                        ofMillis(2),
+                        ofMillis(3),
+                        ofMillis(5),
+                        ofMillis(8),
+                        ofMillis(10),
+                        ofMillis(10)));
+    }
+
+    @Test
+    void shouldSpinThenPark() {
+        // Given:
+        final BackoffStrategy strategy =
+                BackoffStrategy.spinThenPark(2, BackoffStrategy.fixed(ofMillis(1)));
+
+        // Then:
+        assertThat(
+                delays(strategy.start(), 4),
+                contains(Duration.ZERO, Duration.ZERO, ofMillis(1), ofMillis(1)));
+    }
+
+    @Test
+    void shouldStartEachBackoffAfresh() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.exponential(ofMillis(1), ofMillis(10));
+        delays(strategy.start(), 3);
+
+        // Then:
+        assertThat(delays(strategy.start(), 2), contains(ofMillis(1), ofMillis(2)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidDurations() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BackoffStrategy.exponential(Duration.ZERO, ofMillis(1)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BackoffStrategy.exponentialWithJitter(ofMillis(1), ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> BackoffStrategy.fixed(Duration.ZERO));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BackoffStrategy.fibonacci(ofMillis(-1), ofMillis(1)));
+    }
+
+    @Test
+    void shouldThrowOnNegativeSpins() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BackoffStrategy.spinThenPark(-1, BackoffStrategy.fixed(ofMillis(1))));
+    }
+
+    @Test
+    void shouldBackoffExponentiallyForUnknownCallSites() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.adaptive(tempDir.resolve("history"));
+
+        // Then:
+        assertThat(
+                delays(startAfter(strategy), 3), contains(ofMillis(1), ofMillis(2), ofMillis(4)));
+    }
+
+    @Test
+    void shouldConcentrateAttemptsAroundExpectedTime() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.adaptive(tempDir.resolve("history"));
+
+        // When:
+        final Backoff backoff = startAfter(strategy, ofMillis(80));
+
+        // Then:
+        assertThat(
+                delays(backoff, 8),
+                contains(
+                        ofMillis(60),
+                        ofMillis(10),
+                        ofMillis(10),
+                        ofMillis(10),
+                        ofMillis(10),
+                        ofMillis(10),
+                        ofMillis(10),
+                        ofMillis(1)));
+    }
+
+    @Test
+    void shouldSmoothLearnedTimes() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.adaptive(tempDir.resolve("history"));
+
+        // When:
+        final Backoff backoff = startAfter(strategy, ofMillis(80), ofMillis(40));
+
+        // Then:
+        assertThat(backoff.nextDelay(), is(ofMillis(45)));
+    }
+
+    @Test
+    void shouldLearnTimesPerCallSite() {
+        // Given:
+        final BackoffStrategy strategy = BackoffStrategy.adaptive(tempDir.resolve("history"));
+        startAfter(strategy, ofMillis(80));
+
+        // When:
+        final Backoff backoff = strategy.start();
+
+        // Then:
+        assertThat(backoff.nextDelay(), is(ofMillis(1)));
+    }
+
+    @Test
+    void shouldShareLearnedTimesAcrossTheJvm() {
+        // When:
+        final Backoff backoff = startAfter(BackoffStrategy.adaptive(), ofMillis(80));
+
+        // Then:
+        assertThat(backoff.nextDelay(), is(ofMillis(60)));
+    }
+
+    @Test
+    void shouldPersistLearnedTimes() throws Exception {
+        // Given:
+        final Path history = tempDir.resolve("build").resolve("history");
+        startAfter(BackoffStrategy.adaptive(history), ofMillis(80));
+        CallSiteHistory.saveAll();
+
+        final Path copy = tempDir.resolve("copy");
+        Files.copy(history, copy);
+
+        // When:
+        final Backoff backoff = startAfter(BackoffStrategy.adaptive(copy));
+
+        // Then:
+        assertThat(backoff.nextDelay(), is(ofMillis(60)));
+    }
+
+    @Test
+    void shouldNotSaveLearnedTimesUntilExit() {
+        // Given:
+        final Path history = tempDir.resolve("history");
+
+        // When:
+        startAfter(BackoffStrategy.adaptive(history), ofMillis(80));
+
+        // Then:
+        assertThat(Files.exists(history), is(false));
+    }
+
+    @Test
+    void shouldTreatCorruptHistoryAsEmpty() throws Exception {
+        // Given:
+        final Path history = tempDir.resolve("history");
+        Files.writeString(history, "site=\\uZZZZ");
+
+        // When:
+        final BackoffStrategy strategy = BackoffStrategy.adaptive(history);
+
+        // Then:
+        assertThat(
+                delays(startAfter(strategy), 3), contains(ofMillis(1), ofMillis(2), ofMillis(4)));
+    }
+
+    @Test
+    void shouldNotThrowIfHistoryCanNotBeSaved() throws Exception {
+        // Given:
+        final Path file = Files.createFile(tempDir.resolve("file"));
+        final Path history = file.resolve("history");
+        startAfter(BackoffStrategy.adaptive(history), ofMillis(80));
+
+        // When:
+        CallSiteHistory.saveAll();
+
+        // Then: did not throw.
+        assertThat(Files.isRegularFile(file), is(true));
+    }
+
+    @Test
+    void shouldFallBackToSuppliedStrategyForUnknownCallSites() {
+        // Given:
+        final BackoffStrategy strategy =
+                BackoffStrategies.withFallback(
+                        BackoffStrategy.spinThenPark(
+                                1, BackoffStrategy.adaptive(tempDir.resolve("history"))),
+                        BackoffStrategy.fixed(ofMillis(7)));
+
+        // Then:
+        assertThat(
+                delays(startAfter(strategy), 3),
+                contains(Duration.ZERO, ofMillis(7), ofMillis(7)));
+    }
+
+    @Test
+    void shouldPassSuccessThroughSpinThenPark() {
+        // Given:
+        final BackoffStrategy strategy =
+                BackoffStrategy.spinThenPark(
+                        1, BackoffStrategy.adaptive(tempDir.resolve("history")));
+
+        // When:
+        final Backoff backoff = startAfter(strategy, ofMillis(80));
+
+        // Then:
+        assertThat(delays(backoff, 2), contains(Duration.ZERO, ofMillis(60)));
+    }
+
+    private static Matcher<Duration> between(final Duration min, final Duration max) {
+        return both(greaterThanOrEqualTo(min)).and(lessThanOrEqualTo(max));
+    }
+
+    /**
+     * Start a backoff after previous backoffs, from the same call site, passed in {@code
+     * successes}.
+     */
+    private static Backoff startAfter(
+            final BackoffStrategy strategy, final Duration... successes) {
+        final List<Backoff> started = new ArrayList<>(successes.length + 1);
+        for (int i = 0; i <= successes.length; ++i) {
+            started.add(strategy.start());
+            if (i != successes.length) {
+                started.get(i).onSuccess(successes[i]);
+            }
+        }
+        return started.get(successes.length);
+    }
+
+    private static List<Duration> delays(final Backoff backoff, final int count) {
+        final List<Duration> delays = new ArrayList<>(count);
+        for (int i = 0; i != count; ++i) {
+            delays.add(backoff.nextDelay());
+        }
+        return delays;
+    }
+}
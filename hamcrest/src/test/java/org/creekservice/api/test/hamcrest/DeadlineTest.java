@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+    @Test
+    void shouldNotBeExpiredBeforeTimeout() {
+        assertThat(Deadline.after(ofMinutes(1), Optional.empty()).expired(), is(false));
+    }
+
+    @Test
+    void shouldBeExpiredAfterTimeout() throws Exception {
+        // Given:
+        final Deadline deadline = Deadline.after(ofMillis(1), Optional.empty());
+
+        // When:
+        Thread.sleep(2);
+
+        // Then:
+        assertThat(deadline.expired(), is(true));
+    }
+
+    @Test
+    void shouldCapRemainingAtMax() {
+        assertThat(
+                Deadline.after(ofMinutes(1), Optional.empty()).remaining(ofMillis(1)),
+                is(ofMillis(1)));
+    }
+
+    @Test
+    void shouldReturnRemainingIfLessThanMax() {
+        assertThat(
+                Deadline.after(ofMillis(10), Optional.empty()).remaining(ofMinutes(1)),
+                is(lessThanOrEqualTo(ofMillis(10))));
+    }
+
+    @Test
+    void shouldReturnZeroRemainingOnceExpired() {
+        assertThat(
+                Deadline.after(ofMillis(-1), Optional.empty()).remaining(ofMinutes(1)),
+                is(Duration.ZERO));
+    }
+
+    @Test
+    void shouldHandleHugeDurations() {
+        // Given:
+        final Duration huge = Duration.ofSeconds(Long.MAX_VALUE);
+
+        // When:
+        final Deadline deadline = Deadline.after(huge, Optional.empty());
+
+        // Then:
+        assertThat(deadline.expired(), is(false));
+        assertThat(deadline.remaining(huge), is(lessThanOrEqualTo(huge)));
+    }
+
+    @Test
+    void shouldUseCustomClock() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        final Deadline deadline = Deadline.after(ofMinutes(1), Optional.<Clock>of(time));
+
+        // When:
+        time.advance(Duration.ofSeconds(45));
+
+        // Then:
+        assertThat(deadline.expired(), is(false));
+        assertThat(deadline.remaining(ofMinutes(1)), is(Duration.ofSeconds(15)));
+
+        // When:
+        time.advance(Duration.ofSeconds(15));
+
+        // Then:
+        assertThat(deadline.expired(), is(true));
+        assertThat(deadline.remaining(ofMinutes(1)), is(Duration.ZERO));
+    }
+
+    @Test
+    void shouldTrackElapsedTimeUsingCustomClock() {
+        // Given:
+        final VirtualTime time = VirtualTime.create();
+        final Deadline deadline = Deadline.after(ofMinutes(1), Optional.<Clock>of(time));
+
+        // When:
+        time.advance(Duration.ofSeconds(75));
+
+        // Then:
+        assertThat(deadline.elapsed(), is(Duration.ofSeconds(75)));
+    }
+
+    @Test
+    void shouldTrackElapsedTime() throws Exception {
+        // Given:
+        final Deadline deadline = Deadline.after(ofMinutes(1), Optional.empty());
+
+        // When:
+        Thread.sleep(2);
+
+        // Then:
+        assertThat(deadline.elapsed(), is(greaterThanOrEqualTo(ofMillis(2))));
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.creekservice.api.test.hamcrest.AssertEventually.assertThatEventually;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import com.google.common.testing.NullPointerTester;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileTailTest {
+
+    @TempDir private Path tempDir;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("log");
+    }
+
+    @Test
+    void shouldThrowNPEs() {
+        new NullPointerTester().testAllPublicStaticMethods(FileTail.class);
+    }
+
+    @Test
+    void shouldReturnExistingLines() {
+        // Given:
+        append("a\nb\n");
+
+        // When:
+        final List<String> lines = FileTail.of(file).get();
+
+        // Then:
+        assertThat(lines, contains("a", "b"));
+    }
+
+    @Test
+    void shouldOnlyReturnNewLines() {
+        // Given:
+        append("a\n");
+        final FileTail tail = FileTail.of(file);
+        tail.get();
+        append("b\nc\n");
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("b", "c"));
+    }
+
+    @Test
+    void shouldReturnNothingIfUnchanged() {
+        // Given:
+        append("a\n");
+        final FileTail tail = FileTail.of(file);
+        tail.get();
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, is(empty()));
+    }
+
+    @Test
+    void shouldHoldPartialLinesUntilComplete() {
+        // Given:
+        append("a\nb");
+        final FileTail tail = FileTail.of(file);
+        assertThat(tail.get(), contains("a"));
+        append("c");
+        assertThat(tail.get(), is(empty()));
+        append("d\n");
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("bcd"));
+    }
+
+    @Test
+    void shouldHandleWindowsLineEndings() {
+        // Given:
+        append("a\r\nb\r\n");
+
+        // When:
+        final List<String> lines = FileTail.of(file).get();
+
+        // Then:
+        assertThat(lines, contains("a", "b"));
+    }
+
+    @Test
+    void shouldHandleMultiByteCharactersSplitAcrossReads() {
+        // Given:
+        final byte[] line = "\u00df\n".getBytes(UTF_8);
+        final FileTail tail = FileTail.of(file);
+        append(new byte[] {line[0]});
+        tail.get();
+        append(new byte[] {line[1], line[2]});
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("\u00df"));
+    }
+
+    @Test
+    void shouldHandleLinesLargerThanChunk() {
+        // Given:
+        final String longLine = "x".repeat(FileContent.CHUNK_SIZE * 2 + 3);
+        append(longLine + "\nb\n");
+
+        // When:
+        final List<String> lines = FileTail.of(file).get();
+
+        // Then:
+        assertThat(lines, contains(longLine, "b"));
+    }
+
+    @Test
+    void shouldStartFromEnd() {
+        // Given:
+        append("a\n");
+        final FileTail tail = FileTail.fromEnd(file);
+        append("b\n");
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("b"));
+    }
+
+    @Test
+    void shouldTreatMissingFileAsEmpty() {
+        // Given:
+        final FileTail tail = FileTail.fromEnd(file);
+        assertThat(tail.get(), is(empty()));
+        append("a\n");
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("a"));
+    }
+
+    @Test
+    void shouldRestartIfTruncated() throws Exception {
+        // Given:
+        append("first\nsecond\n");
+        final FileTail tail = FileTail.of(file);
+        tail.get();
+        Files.write(file, "new\n".getBytes(UTF_8));
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("new"));
+    }
+
+    @Test
+    void shouldRestartIfRotated() throws Exception {
+        // Given:
+        append("before rotation\n");
+        final FileTail tail = FileTail.of(file);
+        tail.get();
+        Files.move(file, tempDir.resolve("log.1"));
+        append("b\nc\n");
+
+        // When:
+        final List<String> lines = tail.get();
+
+        // Then:
+        assertThat(lines, contains("b", "c"));
+    }
+
+    @Test
+    void shouldWorkWithEventualAssertions() {
+        // Given:
+        append("starting\n");
+        CompletableFuture.runAsync(() -> append("started\n"), delayedExecutor(10, MILLISECONDS));
+
+        // When:
+        final List<String> lines =
+                assertThatEventually(FileTail.of(file), hasItem(containsString("started")));
+
+        // Then:
+        assertThat(lines, hasItem("started"));
+    }
+
+    private void append(final String text) {
+        append(text.getBytes(UTF_8));
+    }
+
+    private void append(final byte[] bytes) {
+        try {
+            Files.write(file, bytes, CREATE, APPEND);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -17,28 +17,72 @@
 package org.creekservice.api.test.hamcrest;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.attribute.PosixFilePermission.GROUP_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static org.creekservice.api.test.hamcrest.PathMatchers.anyFileMatching;
+import static org.creekservice.api.test.hamcrest.PathMatchers.anyLine;
+import static org.creekservice.api.test.hamcrest.PathMatchers.attributes;
+import static org.creekservice.api.test.hamcrest.PathMatchers.containsFilesMatching;
 import static org.creekservice.api.test.hamcrest.PathMatchers.directory;
 import static org.creekservice.api.test.hamcrest.PathMatchers.directoryChildren;
 import static org.creekservice.api.test.hamcrest.PathMatchers.doesNotExist;
+import static org.creekservice.api.test.hamcrest.PathMatchers.everyLine;
 import static org.creekservice.api.test.hamcrest.PathMatchers.fileContains;
+import static org.creekservice.api.test.hamcrest.PathMatchers.fileSize;
+import static org.creekservice.api.test.hamcrest.PathMatchers.gzipContains;
+import static org.creekservice.api.test.hamcrest.PathMatchers.hasDigest;
+import static org.creekservice.api.test.hamcrest.PathMatchers.lastModified;
+import static org.creekservice.api.test.hamcrest.PathMatchers.lineCount;
+import static org.creekservice.api.test.hamcrest.PathMatchers.lines;
+import static org.creekservice.api.test.hamcrest.PathMatchers.noFileMatching;
+import static org.creekservice.api.test.hamcrest.PathMatchers.permissions;
 import static org.creekservice.api.test.hamcrest.PathMatchers.regularFile;
+import static org.creekservice.api.test.hamcrest.PathMatchers.sameContentAs;
+import static org.creekservice.api.test.hamcrest.PathMatchers.sameTreeAs;
+import static org.creekservice.api.test.hamcrest.PathMatchers.symbolicLink;
+import static org.creekservice.api.test.hamcrest.PathMatchers.zipEntries;
+import static org.creekservice.api.test.hamcrest.PathMatchers.zipEntryContains;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.hamcrest.CustomMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
 
 class PathMatchersTest {
@@ -165,6 +209,936 @@ class PathMatchersTest {
         void shouldFailIfMatcherDoesNotMatch() {
             assertThat(file, not(fileContains(containsString("you won't find me, right"))));
         }
+
+        @Test
+        void shouldPassIfTextSpansChunks() throws Exception {
+            // Given:
+            final String text = "x".repeat(FileContent.CHUNK_SIZE - 2) + "Mr. Pink";
+            Files.write(file, text.getBytes(UTF_8));
+
+            // Then:
+            assertThat(file, fileContains("Mr. Pink"));
+        }
+
+        @Test
+        void shouldPassIfTextInLaterChunk() throws Exception {
+            // Given:
+            final String text = "x".repeat(FileContent.CHUNK_SIZE * 3) + "Mr. Pink";
+            Files.write(file, text.getBytes(UTF_8));
+
+            // Then:
+            assertThat(file, fileContains("Mr. Pink"));
+        }
+
+        @Test
+        void shouldPassIfMultiByteTextMatches() throws Exception {
+            // Given:
+            Files.write(file, "Gr\u00f6\u00dfe: 1\u00b5m".getBytes(UTF_8));
+
+            // Then:
+            assertThat(file, fileContains("\u00dfe: 1\u00b5"));
+        }
+
+        @Test
+        void shouldPassIfTextEmpty() {
+            assertThat(file, fileContains(""));
+        }
+
+        @Test
+        void shouldFailIfNotRegularFile() {
+            assertThat(tempDir.resolve("dir"), not(fileContains("Mr. Pink")));
+        }
+
+        @Test
+        void shouldDescribeMismatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            fileContains("Mr. Blonde").describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), is("content was \"Why am I Mr. Pink?\""));
+        }
+
+        @Test
+        void shouldBoundMismatchDescription() throws Exception {
+            // Given:
+            Files.write(file, "x".repeat(FileContent.CHUNK_SIZE * 2).getBytes(UTF_8));
+            final Description mismatch = new StringDescription();
+
+            // When:
+            fileContains("Mr. Blonde").describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(
+                    mismatch.toString(),
+                    is(
+                            "content was \""
+                                    + "x".repeat(FileContent.PREVIEW_SIZE)
+                                    + "... ("
+                                    + FileContent.CHUNK_SIZE * 2
+                                    + " bytes)\""));
+        }
+    }
+
+    @Nested
+    class LineMatchersTest {
+
+        private Path file;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            file = tempDir.resolve("file");
+            Files.write(file, "Mr. White\nMr. Pink\nMr. Orange\n".getBytes(UTF_8));
+        }
+
+        @Test
+        void shouldPassIfAnyLineMatches() {
+            assertThat(file, anyLine(is("Mr. Pink")));
+        }
+
+        @Test
+        void shouldFailIfNoLineMatches() {
+            assertThat(file, not(anyLine(is("Mr. Blonde"))));
+        }
+
+        @Test
+        void shouldStopAtFirstMatchingLine() {
+            // Given:
+            final List<String> seen = new ArrayList<>();
+
+            // When:
+            anyLine(recording(is("Mr. Pink"), seen)).matches(file);
+
+            // Then:
+            assertThat(seen, contains("Mr. White", "Mr. Pink"));
+        }
+
+        @Test
+        void shouldPassIfEveryLineMatches() {
+            assertThat(file, everyLine(startsWith("Mr. ")));
+        }
+
+        @Test
+        void shouldFailIfAnyLineDoesNotMatch() {
+            assertThat(file, not(everyLine(endsWith("e"))));
+        }
+
+        @Test
+        void shouldStopAtFirstNonMatchingLine() {
+            // Given:
+            final List<String> seen = new ArrayList<>();
+
+            // When:
+            everyLine(recording(endsWith("e"), seen)).matches(file);
+
+            // Then:
+            assertThat(seen, hasItem("Mr. Pink"));
+            assertThat(seen, not(hasItem("Mr. Orange")));
+        }
+
+        @Test
+        void shouldPassIfLineCountMatches() {
+            assertThat(file, lineCount(3));
+            assertThat(file, lineCount(greaterThan(2L)));
+        }
+
+        @Test
+        void shouldFailIfLineCountDoesNotMatch() {
+            assertThat(file, not(lineCount(2)));
+        }
+
+        @Test
+        void shouldPassIfLinesMatch() {
+            assertThat(file, lines(streamOf(contains("Mr. White", "Mr. Pink", "Mr. Orange"))));
+        }
+
+        @Test
+        void shouldFailIfLinesDoNotMatch() {
+            assertThat(file, not(lines(streamOf(hasItem("Mr. Blonde")))));
+        }
+
+        @Test
+        void shouldFailIfNotRegularFile() {
+            final Path dir = tempDir.resolve("dir");
+            assertThat(dir, not(anyLine(is("Mr. Pink"))));
+            assertThat(dir, not(everyLine(startsWith("Mr. "))));
+            assertThat(dir, not(lineCount(0)));
+            assertThat(dir, not(lines(streamOf(hasSize(0)))));
+        }
+
+        @Test
+        void shouldDescribeAnyLineMismatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            anyLine(is("Mr. Blonde")).describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), is("none of the 3 lines matched"));
+        }
+
+        @Test
+        void shouldDescribeEveryLineMismatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            everyLine(startsWith("Mr. W")).describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), is("line 2 was \"Mr. Pink\""));
+        }
+
+        private <T> Matcher<T> recording(final Matcher<T> delegate, final List<T> seen) {
+            return new CustomMatcher<>(delegate.toString()) {
+                @SuppressWarnings("unchecked")
+                @Override
+                public boolean matches(final Object actual) {
+                    seen.add((T) actual);
+                    return delegate.matches(actual);
+                }
+            };
+        }
+
+        private <T> Matcher<Stream<T>> streamOf(final Matcher<? super List<T>> listMatcher) {
+            return new FeatureMatcher<Stream<T>, List<T>>(listMatcher, "stream of", "stream of") {
+                @Override
+                protected List<T> featureValueOf(final Stream<T> actual) {
+                    return actual.collect(Collectors.toList());
+                }
+            };
+        }
+    }
+
+    @Nested
+    class SameContentAsTest {
+
+        private Path file;
+        private Path expected;
+
+        @BeforeEach
+        public void setUp() {
+            file = tempDir.resolve("file");
+            expected = tempDir.resolve("expected");
+        }
+
+        @Test
+        void shouldPassIfContentSame() throws Exception {
+            // Given:
+            Files.write(file, bytes(FileContent.CHUNK_SIZE * 2 + 10));
+            Files.write(expected, bytes(FileContent.CHUNK_SIZE * 2 + 10));
+
+            // Then:
+            assertThat(file, sameContentAs(expected));
+        }
+
+        @Test
+        void shouldPassIfBothEmpty() throws Exception {
+            // Given:
+            Files.write(expected, new byte[0]);
+
+            // Then:
+            assertThat(file, sameContentAs(expected));
+        }
+
+        @Test
+        void shouldFailIfSizeDiffers() throws Exception {
+            // Given:
+            Files.write(file, bytes(10));
+            Files.write(expected, bytes(11));
+            final Description mismatch = new StringDescription();
+
+            // When:
+            sameContentAs(expected).describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(file, not(sameContentAs(expected)));
+            assertThat(mismatch.toString(), is("size was 10 bytes, expected 11"));
+        }
+
+        @Test
+        void shouldFailIfContentDiffers() throws Exception {
+            // Given:
+            final byte[] content = bytes(FileContent.CHUNK_SIZE + 100);
+            Files.write(expected, content);
+            content[FileContent.CHUNK_SIZE + 20] = (byte) 0xFF;
+            Files.write(file, content);
+            final Description mismatch = new StringDescription();
+
+            // When:
+            sameContentAs(expected).describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(file, not(sameContentAs(expected)));
+            assertThat(
+                    mismatch.toString(),
+                    is(
+                            "content differed at offset 65556, bytes from offset 65548 were"
+                                    + " [0c 0d 0e 0f 10 11 12 13 ff 15 16 17 18 19 1a 1b],"
+                                    + " expected"
+                                    + " [0c 0d 0e 0f 10 11 12 13 14 15 16 17 18 19 1a 1b]"));
+        }
+
+        @Test
+        void shouldFailIfNotRegularFile() throws Exception {
+            // Given:
+            Files.write(expected, bytes(10));
+
+            // Then:
+            assertThat(tempDir.resolve("dir"), not(sameContentAs(expected)));
+        }
+
+        private byte[] bytes(final int size) {
+            final byte[] bytes = new byte[size];
+            for (int i = 0; i != size; ++i) {
+                bytes[i] = (byte) i;
+            }
+            return bytes;
+        }
+    }
+
+    @Nested
+    class SameTreeAsTest {
+
+        private Path actual;
+        private Path expected;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            actual = tempDir.resolve("actual");
+            expected = tempDir.resolve("expected");
+
+            for (final Path root : List.of(actual, expected)) {
+                Files.createDirectories(root.resolve("a/b"));
+                Files.createDirectories(root.resolve("empty"));
+                Files.write(root.resolve("top.txt"), "top".getBytes(UTF_8));
+                Files.write(root.resolve("a/b/nested.txt"), "nested".getBytes(UTF_8));
+            }
+        }
+
+        @Test
+        void shouldPassIfTreesSame() {
+            assertThat(actual, sameTreeAs(expected));
+        }
+
+        @Test
+        void shouldFailIfFileAdded() throws Exception {
+            // Given:
+            Files.write(actual.resolve("a/new.txt"), "new".getBytes(UTF_8));
+
+            // Then:
+            assertThat(actual, not(sameTreeAs(expected)));
+            assertThat(mismatch(actual), is("added: [\"a/new.txt\"]"));
+        }
+
+        @Test
+        void shouldFailIfFileRemoved() throws Exception {
+            // Given:
+            Files.delete(actual.resolve("a/b/nested.txt"));
+
+            // Then:
+            assertThat(actual, not(sameTreeAs(expected)));
+            assertThat(mismatch(actual), is("removed: [\"a/b/nested.txt\"]"));
+        }
+
+        @Test
+        void shouldFailIfDirectoryRemoved() throws Exception {
+            // Given:
+            Files.delete(actual.resolve("empty"));
+
+            // Then:
+            assertThat(mismatch(actual), is("removed: [\"empty\"]"));
+        }
+
+        @Test
+        void shouldFailIfSizeChanged() throws Exception {
+            // Given:
+            Files.write(actual.resolve("top.txt"), "longer".getBytes(UTF_8));
+
+            // Then:
+            assertThat(mismatch(actual), is("changed: [\"top.txt\"]"));
+        }
+
+        @Test
+        void shouldFailIfContentChanged() throws Exception {
+            // Given:
+            Files.write(actual.resolve("a/b/nested.txt"), "NESTED".getBytes(UTF_8));
+
+            // Then:
+            assertThat(mismatch(actual), is("changed: [\"a/b/nested.txt\"]"));
+        }
+
+        @Test
+        void shouldFailIfTypeChanged() throws Exception {
+            // Given:
+            Files.delete(actual.resolve("empty"));
+            Files.write(actual.resolve("empty"), new byte[0]);
+
+            // Then:
+            assertThat(mismatch(actual), is("changed: [\"empty\"]"));
+        }
+
+        @Test
+        void shouldListAllDifferences() throws Exception {
+            // Given:
+            Files.write(actual.resolve("added.txt"), "new".getBytes(UTF_8));
+            Files.delete(actual.resolve("top.txt"));
+            Files.write(actual.resolve("a/b/nested.txt"), "NESTED".getBytes(UTF_8));
+
+            // Then:
+            assertThat(
+                    mismatch(actual),
+                    is(
+                            "added: [\"added.txt\"], removed: [\"top.txt\"], changed:"
+                                    + " [\"a/b/nested.txt\"]"));
+        }
+
+        @Test
+        void shouldBoundListedDifferences() throws Exception {
+            // Given:
+            for (int i = 0; i != 25; ++i) {
+                Files.write(actual.resolve(String.format("new-%02d", i)), new byte[0]);
+            }
+
+            // Then:
+            assertThat(mismatch(actual), startsWith("added: [\"new-00\", \"new-01\""));
+            assertThat(mismatch(actual), endsWith("\"new-19\"... and 5 more]"));
+        }
+
+        @Test
+        void shouldFailIfNotDirectory() {
+            assertThat(actual.resolve("top.txt"), not(sameTreeAs(expected)));
+        }
+
+        private String mismatch(final Path path) {
+            final Description mismatch = new StringDescription();
+            sameTreeAs(expected).describeMismatch(path, mismatch);
+            return mismatch.toString();
+        }
+    }
+
+    @Nested
+    class HasDigestTest {
+
+        private static final String SHA_256 =
+                "ced260fab1b635b188a4854178148023df52a0fe176e1eba1c8866a42c874d05";
+
+        private Path file;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            file = tempDir.resolve("file");
+            Files.write(file, "Why am I Mr. Pink?".getBytes(UTF_8));
+        }
+
+        @Test
+        void shouldPassIfDigestMatches() {
+            assertThat(file, hasDigest("SHA-256", SHA_256));
+            assertThat(file, hasDigest("MD5", "0c68f727a8e561c5db340065f967b33e"));
+        }
+
+        @Test
+        void shouldIgnoreCaseOfHex() {
+            assertThat(file, hasDigest("SHA-256", SHA_256.toUpperCase()));
+        }
+
+        @Test
+        void shouldFailIfDigestDoesNotMatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            hasDigest("MD5", "00").describeMismatch(file, mismatch);
+
+            // Then:
+            assertThat(file, not(hasDigest("MD5", "00")));
+            assertThat(
+                    mismatch.toString(), is("MD5 digest was \"0c68f727a8e561c5db340065f967b33e\""));
+        }
+
+        @Test
+        void shouldDigestFilesLargerThanOneChunk() throws Exception {
+            // Given:
+            final byte[] content = new byte[FileContent.CHUNK_SIZE * 2 + 1];
+            Files.write(file, content);
+
+            // Then:
+            assertThat(file, hasDigest("SHA-256", sha256(content)));
+        }
+
+        @Test
+        void shouldDetectModifiedFiles() throws Exception {
+            // Given:
+            assertThat(file, hasDigest("SHA-256", SHA_256));
+            final FileTime modified = Files.getLastModifiedTime(file);
+
+            // When:
+            Files.write(file, "Why am I Mr. Blue?".getBytes(UTF_8));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 1000));
+
+            // Then:
+            assertThat(file, not(hasDigest("SHA-256", SHA_256)));
+        }
+
+        @Test
+        void shouldCacheDigestOfUnchangedFiles() throws Exception {
+            // Given:
+            assertThat(file, hasDigest("SHA-256", SHA_256));
+            final FileTime modified = Files.getLastModifiedTime(file);
+
+            // When: content changed, but size and last modified time are not:
+            Files.write(file, "Why am I Mr. Blue?".getBytes(UTF_8));
+            Files.setLastModifiedTime(file, modified);
+
+            // Then: cached digest used:
+            assertThat(file, hasDigest("SHA-256", SHA_256));
+        }
+
+        @Test
+        void shouldThrowOnUnknownAlgorithm() {
+            // When:
+            final Exception e =
+                    assertThrows(IllegalArgumentException.class, () -> hasDigest("Nope", "00"));
+
+            // Then:
+            assertThat(e.getMessage(), is("Unknown digest algorithm: Nope"));
+        }
+
+        @Test
+        void shouldFailIfNotRegularFile() {
+            assertThat(tempDir.resolve("dir"), not(hasDigest("SHA-256", SHA_256)));
+        }
+
+        private String sha256(final byte[] content) throws Exception {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        }
+    }
+
+    @Nested
+    class FilesMatchingTest {
+
+        private Path root;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            root = tempDir.resolve("root");
+            Files.createDirectories(root.resolve("a/b"));
+            Files.createDirectories(root.resolve("c"));
+            Files.write(root.resolve("top.avro"), new byte[0]);
+            Files.write(root.resolve("top.txt"), new byte[0]);
+            Files.write(root.resolve("a/one.avro"), new byte[0]);
+            Files.write(root.resolve("a/b/two.avro"), new byte[0]);
+            Files.write(root.resolve("c/three.txt"), new byte[0]);
+        }
+
+        @Test
+        void shouldListMatchingFilesInSubdirectories() {
+            assertThat(
+                    root,
+                    containsFilesMatching("**/*.avro", contains("a/b/two.avro", "a/one.avro")));
+        }
+
+        @Test
+        void shouldListMatchingFilesInRoot() {
+            assertThat(root, containsFilesMatching("*.avro", contains("top.avro")));
+        }
+
+        @Test
+        void shouldListMatchingFilesAtAnyDepth() {
+            assertThat(root, containsFilesMatching("{*.avro,**/*.avro}", hasSize(3)));
+        }
+
+        @Test
+        void shouldLimitDepth() {
+            assertThat(
+                    root,
+                    containsFilesMatching(
+                            "{*.avro,**/*.avro}", 2, contains("a/one.avro", "top.avro")));
+        }
+
+        @Test
+        void shouldNotListDirectories() {
+            assertThat(root, containsFilesMatching("*", contains("top.avro", "top.txt")));
+        }
+
+        @Test
+        void shouldDescribeMismatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            containsFilesMatching("*.txt", hasSize(2)).describeMismatch(root, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), startsWith("files collection size was <1>"));
+        }
+
+        @Test
+        void shouldThrowOnInvalidDepth() {
+            // When:
+            final Exception e =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> containsFilesMatching("*", 0, hasSize(0)));
+
+            // Then:
+            assertThat(e.getMessage(), is("maxDepth must be positive: 0"));
+        }
+
+        @Test
+        void shouldFindAnyFileMatching() {
+            assertThat(root, anyFileMatching("**/*.avro"));
+            assertThat(root, not(anyFileMatching("**/*.json")));
+        }
+
+        @Test
+        void shouldDescribeAnyFileMismatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            anyFileMatching("**/*.json").describeMismatch(root, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), is("no files matched"));
+        }
+
+        @Test
+        void shouldFindNoFileMatching() {
+            assertThat(root, noFileMatching("**/*.json"));
+            assertThat(root, not(noFileMatching("**/*.txt")));
+        }
+
+        @Test
+        void shouldDescribeNoFileMismatch() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            noFileMatching("**/*.txt").describeMismatch(root, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), is("found \"c/three.txt\""));
+        }
+
+        @Test
+        void shouldFailIfNotDirectory() {
+            assertThat(root.resolve("top.txt"), not(containsFilesMatching("*", hasSize(0))));
+            assertThat(root.resolve("top.txt"), not(anyFileMatching("*")));
+            assertThat(root.resolve("top.txt"), not(noFileMatching("*")));
+        }
+    }
+
+    @Nested
+    class ArchiveTest {
+
+        private Path gzip;
+        private Path zip;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            gzip = tempDir.resolve("file.gz");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+                out.write("Why am I Mr. Pink?".getBytes(UTF_8));
+            }
+
+            zip = tempDir.resolve("file.zip");
+            try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zip))) {
+                out.putNextEntry(new ZipEntry("a/pink.txt"));
+                out.write("Why am I Mr. Pink?".getBytes(UTF_8));
+                out.putNextEntry(new ZipEntry("b/"));
+                out.putNextEntry(new ZipEntry("b/orange.txt"));
+                out.write("Mr. Orange".getBytes(UTF_8));
+            }
+        }
+
+        @Test
+        void shouldPassIfGzipContainsText() {
+            assertThat(gzip, gzipContains("Mr. Pink"));
+        }
+
+        @Test
+        void shouldFailIfGzipDoesNotContainText() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            gzipContains("Mr. Blue").describeMismatch(gzip, mismatch);
+
+            // Then:
+            assertThat(gzip, not(gzipContains("Mr. Blue")));
+            assertThat(mismatch.toString(), is("decompressed content was \"Why am I Mr. Pink?\""));
+        }
+
+        @Test
+        void shouldFindTextAcrossChunkBoundaryInGzip() throws Exception {
+            // Given:
+            final byte[] content = new byte[FileContent.CHUNK_SIZE + 10];
+            Arrays.fill(content, (byte) 'x');
+            System.arraycopy("Mr. Pink".getBytes(UTF_8), 0, content, FileContent.CHUNK_SIZE - 4, 8);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+                out.write(content);
+            }
+
+            // Then:
+            assertThat(gzip, gzipContains("Mr. Pink"));
+        }
+
+        @Test
+        void shouldPreviewLargeDecompressedContent() throws Exception {
+            // Given:
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+                out.write(new byte[FileContent.PREVIEW_SIZE * 2]);
+            }
+            final Description mismatch = new StringDescription();
+
+            // When:
+            gzipContains("Mr. Blue").describeMismatch(gzip, mismatch);
+
+            // Then:
+            assertThat(mismatch.toString(), endsWith("...\""));
+        }
+
+        @Test
+        void shouldThrowIfNotGzip() throws Exception {
+            // Given:
+            final Path file = tempDir.resolve("plain.txt");
+            Files.write(file, "Not gzip".getBytes(UTF_8));
+
+            // When:
+            final Error e =
+                    assertThrows(AssertionError.class, () -> gzipContains("x").matches(file));
+
+            // Then:
+            assertThat(e.getMessage(), is("Failed to decompress content of: " + file));
+        }
+
+        @Test
+        void shouldMatchZipEntries() {
+            assertThat(zip, zipEntries(contains("a/pink.txt", "b/", "b/orange.txt")));
+            assertThat(zip, zipEntries(hasItem("b/orange.txt")));
+            assertThat(zip, not(zipEntries(hasItem("c/blue.txt"))));
+        }
+
+        @Test
+        void shouldPassIfZipEntryContainsText() {
+            assertThat(zip, zipEntryContains("a/pink.txt", "Mr. Pink"));
+            assertThat(zip, zipEntryContains("b/orange.txt", "Orange"));
+        }
+
+        @Test
+        void shouldFailIfZipEntryDoesNotContainText() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            zipEntryContains("b/orange.txt", "Pink").describeMismatch(zip, mismatch);
+
+            // Then:
+            assertThat(zip, not(zipEntryContains("b/orange.txt", "Pink")));
+            assertThat(
+                    mismatch.toString(), is("entry \"b/orange.txt\" content was \"Mr. Orange\""));
+        }
+
+        @Test
+        void shouldFailIfZipEntryMissing() {
+            // Given:
+            final Description mismatch = new StringDescription();
+
+            // When:
+            zipEntryContains("c/blue.txt", "Blue").describeMismatch(zip, mismatch);
+
+            // Then:
+            assertThat(zip, not(zipEntryContains("c/blue.txt", "Blue")));
+            assertThat(mismatch.toString(), is("no entry \"c/blue.txt\""));
+        }
+
+        @Test
+        void shouldFailIfNotRegularFile() {
+            assertThat(tempDir.resolve("dir"), not(gzipContains("x")));
+            assertThat(tempDir.resolve("dir"), not(zipEntries(hasSize(0))));
+            assertThat(tempDir.resolve("dir"), not(zipEntryContains("a", "x")));
+        }
+    }
+
+    @Nested
+    class AttributesTest {
+
+        private Path file;
+
+        @BeforeEach
+        public void setUp() throws Exception {
+            file = tempDir.resolve("file");
+            Files.write(file, "Mr. Pink".getBytes(UTF_8));
+        }
+
+        @Test
+        void shouldMatchFileSize() {
+            assertThat(file, fileSize(8));
+            assertThat(file, fileSize(greaterThan(7L)));
+            assertThat(file, not(fileSize(9)));
+        }
+
+        @Test
+        void shouldDescribeFileSizeMismatch() {
+            assertThat(mismatch(fileSize(9), file), is("size was <8L>"));
+            assertThat(
+                    mismatch(fileSize(9), tempDir.resolve("dir")),
+                    endsWith("dir> is not a regular file"));
+        }
+
+        @Test
+        void shouldMatchLastModified() throws Exception {
+            // Given:
+            final Instant time = Instant.parse("2020-01-02T03:04:05Z");
+            Files.setLastModifiedTime(file, FileTime.from(time));
+
+            // Then:
+            assertThat(file, lastModified(is(time)));
+            assertThat(file, not(lastModified(is(time.plusSeconds(1)))));
+            assertThat(
+                    mismatch(lastModified(is(time.plusSeconds(1))), file),
+                    startsWith("last modified was "));
+            assertThat(tempDir.resolve("missing"), not(lastModified(is(time))));
+        }
+
+        @Test
+        @DisabledOnOs(OS.WINDOWS)
+        void shouldMatchPermissions() throws Exception {
+            // Given:
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r-----"));
+
+            // Then:
+            assertThat(file, permissions("rw-r-----"));
+            assertThat(file, permissions(Set.of(OWNER_READ, OWNER_WRITE, GROUP_READ)));
+            assertThat(file, not(permissions("rwx------")));
+            assertThat(
+                    mismatch(permissions("rwx------"), file), is("permissions were \"rw-r-----\""));
+        }
+
+        @Test
+        @DisabledOnOs(OS.WINDOWS)
+        void shouldMatchSymbolicLink() throws Exception {
+            // Given:
+            final Path link = Files.createSymbolicLink(tempDir.resolve("link"), file);
+            final Path dangling =
+                    Files.createSymbolicLink(
+                            tempDir.resolve("dangling"), tempDir.resolve("missing"));
+
+            // Then:
+            assertThat(link, is(symbolicLink()));
+            assertThat(dangling, is(symbolicLink()));
+            assertThat(file, not(symbolicLink()));
+            assertThat(link, is(regularFile()));
+            assertThat(mismatch(symbolicLink(), file), endsWith("file> is not a symbolic link"));
+        }
+
+        @Test
+        void shouldNotMatchIfParentIsRegularFile() {
+            // Given:
+            final Path child = file.resolve("child");
+
+            // Then:
+            assertThat(child, not(regularFile()));
+            assertThat(child, not(directory()));
+            assertThat(child, not(symbolicLink()));
+            assertThat(child, not(fileSize(0)));
+            assertThat(child, not(lastModified(is(Instant.EPOCH))));
+            assertThat(child, not(attributes(regularFile(), fileSize(0))));
+        }
+
+        @Test
+        @DisabledOnOs(OS.WINDOWS)
+        void shouldDescribeUnreadableAttributes() {
+            // Given:
+            final Path child = file.resolve("child");
+
+            // Then:
+            assertThat(
+                    mismatch(regularFile(), child),
+                    endsWith("child> could not be read: Not a directory"));
+        }
+
+        @Test
+        void shouldCombineAttributeMatchers() throws Exception {
+            // Given:
+            final Instant time = Instant.parse("2020-01-02T03:04:05Z");
+            Files.setLastModifiedTime(file, FileTime.from(time));
+
+            // Then:
+            assertThat(file, attributes(regularFile(), fileSize(8), lastModified(is(time))));
+            assertThat(file, not(attributes(regularFile(), fileSize(9), lastModified(is(time)))));
+            assertThat(file, not(attributes(directory(), fileSize(8))));
+        }
+
+        @Test
+        void shouldDescribeFirstMismatchOfCombinedMatchers() {
+            assertThat(
+                    mismatch(attributes(regularFile(), fileSize(9), fileSize(10)), file),
+                    is("size was <8L>"));
+        }
+
+        @Test
+        void shouldDescribeCombinedMatchers() {
+            assertThat(
+                    description(attributes(directory(), lastModified(is(Instant.EPOCH)))),
+                    is("(a directory and last modified is <1970-01-01T00:00:00Z>)"));
+        }
+
+        @Test
+        void shouldThrowIfCombiningNonAttributeMatchers() {
+            // When:
+            final Exception e =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> attributes(regularFile(), fileContains("x")));
+
+            // Then:
+            assertThat(e.getMessage(), startsWith("Not an attribute matcher: "));
+        }
+
+        @Test
+        void shouldThrowIfCombiningWrappedAttributeMatchers() {
+            // When:
+            final Exception e =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> attributes(is(regularFile()), fileSize(3)));
+
+            // Then:
+            assertThat(e.getMessage(), startsWith("Not an attribute matcher: is a regular file"));
+            assertThat(
+                    e.getMessage(), endsWith("e.g. regularFile() rather than is(regularFile())"));
+        }
+
+        @Test
+        void shouldThrowIfCombiningMatchersWithDifferentLinkHandling() {
+            // When:
+            final Exception e =
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> attributes(symbolicLink(), fileSize(8)));
+
+            // Then:
+            assertThat(
+                    e.getMessage(),
+                    is("Can not combine matchers that do and do not follow symbolic links"));
+        }
+
+        private String mismatch(final Matcher<Path> matcher, final Path path) {
+            final Description mismatch = new StringDescription();
+            matcher.describeMismatch(path, mismatch);
+            return mismatch.toString();
+        }
+
+        private String description(final Matcher<Path> matcher) {
+            final Description description = new StringDescription();
+            matcher.describeTo(description);
+            return description.toString();
+        }
     }
 
     @Nested
@@ -202,6 +1176,26 @@ class PathMatchersTest {
                     is("(is a regular file and contents is a string containing \"text\")"));
         }
 
+        @Test
+        void shouldDescribeAnyLine() {
+            assertThat(
+                    description(anyLine(is("a"))),
+                    is("(is a regular file and has a line matching is \"a\")"));
+        }
+
+        @Test
+        void shouldDescribeEveryLine() {
+            assertThat(
+                    description(everyLine(is("a"))),
+                    is("(is a regular file and has every line matching is \"a\")"));
+        }
+
+        @Test
+        void shouldDescribeLineCount() {
+            assertThat(
+                    description(lineCount(2)), is("(is a regular file and line count is <2L>)"));
+        }
+
         private String description(final Matcher<?> matcher) {
             matcher.describeTo(description);
             return description.toString();
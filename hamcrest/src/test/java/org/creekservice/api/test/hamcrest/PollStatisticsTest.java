@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class PollStatisticsTest {
+
+    private static final long[] LATENCIES = {
+        ofMillis(5).toNanos(), ofMillis(1).toNanos(), ofMillis(3).toNanos(), ofMillis(2).toNanos()
+    };
+
+    private final PollStatistics stats =
+            new PollStatistics(true, ofSeconds(30), ofSeconds(1), LATENCIES, ofMillis(4).toNanos());
+
+    @Test
+    void shouldExposeBasicStats() {
+        assertThat(stats.passed(), is(true));
+        assertThat(stats.timeout(), is(ofSeconds(30)));
+        assertThat(stats.elapsed(), is(ofSeconds(1)));
+        assertThat(stats.pollCount(), is(4));
+        assertThat(stats.totalMatcherTime(), is(ofMillis(4)));
+    }
+
+    @Test
+    void shouldSumSupplierTime() {
+        assertThat(stats.totalSupplierTime(), is(ofMillis(11)));
+    }
+
+    @Test
+    void shouldSortSupplierLatencies() {
+        assertThat(
+                stats.supplierLatencies(),
+                contains(ofMillis(1), ofMillis(2), ofMillis(3), ofMillis(5)));
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToSuppliedLatencies() {
+        // Given:
+        final long[] latencies = {1, 2};
+        final PollStatistics stats =
+                new PollStatistics(true, ofSeconds(30), ofSeconds(1), latencies, 0);
+
+        // When:
+        latencies[0] = 10;
+
+        // Then:
+        assertThat(stats.supplierLatencies(), contains(Duration.ofNanos(1), Duration.ofNanos(2)));
+    }
+
+    @Test
+    void shouldCalculatePercentiles() {
+        assertThat(stats.supplierLatency(1), is(ofMillis(1)));
+        assertThat(stats.supplierLatency(25), is(ofMillis(1)));
+        assertThat(stats.supplierLatency(50), is(ofMillis(2)));
+        assertThat(stats.supplierLatency(75), is(ofMillis(3)));
+        assertThat(stats.supplierLatency(99), is(ofMillis(5)));
+        assertThat(stats.supplierLatency(100), is(ofMillis(5)));
+    }
+
+    @Test
+    void shouldReturnZeroLatencyIfNoPolls() {
+        // Given:
+        final PollStatistics stats =
+                new PollStatistics(false, ofSeconds(30), ofSeconds(1), new long[0], 0);
+
+        // Then:
+        assertThat(stats.supplierLatency(50), is(Duration.ZERO));
+    }
+
+    @Test
+    void shouldThrowOnInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> stats.supplierLatency(0));
+        assertThrows(IllegalArgumentException.class, () -> stats.supplierLatency(100.1));
+        assertThrows(IllegalArgumentException.class, () -> stats.supplierLatency(Double.NaN));
+    }
+
+    @Test
+    void shouldImplementToString() {
+        assertThat(stats.toString(), containsString("pollCount=4"));
+        assertThat(stats.toString(), containsString("maxSupplierLatency=PT0.005S"));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.testing.NullPointerTester;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class VirtualTimeTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void shouldThrowNPEs() {
+        new NullPointerTester().testAllPublicStaticMethods(VirtualTime.class);
+        new NullPointerTester().testAllPublicInstanceMethods(VirtualTime.create());
+    }
+
+    @Test
+    void shouldStartAtEpoch() {
+        assertThat(VirtualTime.create().instant(), is(Instant.EPOCH));
+    }
+
+    @Test
+    void shouldStartAtSuppliedInstant() {
+        assertThat(VirtualTime.startingAt(START).instant(), is(START));
+    }
+
+    @Test
+    void shouldDefaultToUtc() {
+        assertThat(VirtualTime.create().getZone(), is(ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldNotMoveUnlessAdvanced() throws Exception {
+        // Given:
+        final VirtualTime time = VirtualTime.startingAt(START);
+
+        // When:
+        Thread.sleep(2);
+
+        // Then:
+        assertThat(time.instant(), is(START));
+    }
+
+    @Test
+    void shouldAdvance() {
+        // Given:
+        final VirtualTime time = VirtualTime.startingAt(START);
+
+        // When:
+        time.advance(ofSeconds(10));
+
+        // Then:
+        assertThat(time.instant(), is(START.plusSeconds(10)));
+    }
+
+    @Test
+    void shouldAdvanceOnSleep() {
+        // Given:
+        final VirtualTime time = VirtualTime.startingAt(START);
+
+        // When:
+        time.sleep(ofSeconds(10));
+
+        // Then:
+        assertThat(time.instant(), is(START.plusSeconds(10)));
+    }
+
+    @Test
+    void shouldThrowOnNegativeAdvance() {
+        // Given:
+        final VirtualTime time = VirtualTime.startingAt(START);
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> time.advance(ofSeconds(-1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("duration can not be negative"));
+    }
+
+    @Test
+    void shouldShareTimeWithZonedView() {
+        // Given:
+        final VirtualTime time = VirtualTime.startingAt(START);
+        final ZoneId zone = ZoneId.of("Europe/London");
+        final VirtualTime zoned = time.withZone(zone);
+
+        // When:
+        time.advance(ofSeconds(10));
+
+        // Then:
+        assertThat(zoned.getZone(), is(zone));
+        assertThat(zoned.instant(), is(START.plusSeconds(10)));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.hamcrest;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofMinutes;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.google.common.testing.NullPointerTester;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.creekservice.api.test.util.TestPaths;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WakeUpSignalTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldThrowNPEs() {
+        new NullPointerTester().testAllPublicStaticMethods(WakeUpSignal.class);
+    }
+
+    @Test
+    void shouldWakeOnListenerNotification() throws Exception {
+        // Given:
+        final AtomicReference<Runnable> listener = new AtomicReference<>();
+        final WakeUpSignal signal = WakeUpSignal.fromListener(listener::set);
+        CompletableFuture.runAsync(() -> listener.get().run(), delayedExecutor(10, MILLISECONDS));
+        final long start = System.currentTimeMillis();
+
+        // When:
+        signal.await(ofMinutes(1));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldNotLoseListenerNotificationsWhenNotWaiting() throws Exception {
+        // Given:
+        final AtomicReference<Runnable> listener = new AtomicReference<>();
+        final WakeUpSignal signal = WakeUpSignal.fromListener(listener::set);
+        listener.get().run();
+        final long start = System.currentTimeMillis();
+
+        // When:
+        signal.await(ofMinutes(1));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldCollapseMultipleListenerNotifications() throws Exception {
+        // Given:
+        final AtomicReference<Runnable> listener = new AtomicReference<>();
+        final WakeUpSignal signal = WakeUpSignal.fromListener(listener::set);
+        listener.get().run();
+        listener.get().run();
+        signal.await(ofMinutes(1));
+        final long start = System.currentTimeMillis();
+
+        // When:
+        signal.await(ofMillis(20));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(greaterThanOrEqualTo(20L)));
+    }
+
+    @Test
+    void shouldWaitUpToMaxWaitIfNotSignalled() throws Exception {
+        // Given:
+        final WakeUpSignal signal = WakeUpSignal.fromListener(listener -> {});
+        final long start = System.currentTimeMillis();
+
+        // When:
+        signal.await(ofMillis(20));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(greaterThanOrEqualTo(20L)));
+    }
+
+    @Test
+    void shouldWakeOnCondition() throws Exception {
+        // Given:
+        final Lock lock = new ReentrantLock();
+        final Condition condition = lock.newCondition();
+        final WakeUpSignal signal = WakeUpSignal.fromCondition(lock, condition);
+        CompletableFuture.runAsync(
+                () -> {
+                    lock.lock();
+                    try {
+                        condition.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                },
+                delayedExecutor(10, MILLISECONDS));
+        final long start = System.currentTimeMillis();
+
+        // When:
+        signal.await(ofMinutes(1));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldWakeOnQueueElement() throws Exception {
+        // Given:
+        final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        final WakeUpSignal signal = WakeUpSignal.fromQueue(queue);
+        CompletableFuture.runAsync(() -> queue.add("changed"), delayedExecutor(10, MILLISECONDS));
+        final long start = System.currentTimeMillis();
+
+        // When:
+        signal.await(ofMinutes(1));
+
+        // Then:
+        assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+    }
+
+    @Test
+    void shouldDrainQueueOnWake() throws Exception {
+        // Given:
+        final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        queue.add("a");
+        queue.add("b");
+        final WakeUpSignal signal = WakeUpSignal.fromQueue(queue);
+
+        // When:
+        signal.await(ofMinutes(1));
+
+        // Then:
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldWakeOnWatchEvent() throws Exception {
+        try (WatchService watchService = tempDir.getFileSystem().newWatchService()) {
+            // Given:
+            tempDir.register(watchService, ENTRY_CREATE);
+            final WakeUpSignal signal = WakeUpSignal.fromWatchService(watchService);
+            CompletableFuture.runAsync(
+                    () -> TestPaths.write(tempDir.resolve("file"), "changed"),
+                    delayedExecutor(10, MILLISECONDS));
+            final long start = System.currentTimeMillis();
+
+            // When:
+            signal.await(ofMinutes(1));
+
+            // Then:
+            assertThat(System.currentTimeMillis() - start, is(lessThan(30_000L)));
+        }
+    }
+
+    @Test
+    void shouldWaitForMaxWaitIfNoWatchEvents() throws Exception {
+        try (WatchService watchService = tempDir.getFileSystem().newWatchService()) {
+            // Given:
+            tempDir.register(watchService, ENTRY_CREATE);
+            final WakeUpSignal signal = WakeUpSignal.fromWatchService(watchService);
+            final long start = System.nanoTime();
+
+            // When:
+            signal.await(ofMillis(10));
+
+            // Then:
+            assertThat(System.nanoTime() - start, is(greaterThanOrEqualTo(10_000_000L)));
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.creekservice.api.test.util;
 
+import static java.util.Objects.requireNonNull;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -25,12 +27,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Helper to get a temporary directory that is cleaned down when the test exists.
  *
  * <p>Works around the issue that directories returned by {@link Files#createTempDirectory} will not
  * be deleted on exit if they are not empty.
+ *
+ * <p>Directories are tracked in a single registry, cleaned down in parallel by a single shutdown
+ * hook. Use {@link #closeableTempDir} to delete a directory as soon as it is no longer needed.
  */
 public final class Temp {
 
@@ -43,18 +52,46 @@ public final class Temp {
      * @param prefix directory prefix to use.
      * @return the path to the dir.
      */
-    @SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "Trusted user data")
     public static Path tempDir(final String prefix) {
+        final Path path = create(prefix);
+        Registry.PATHS.add(path);
+        return path;
+    }
+
+    /**
+     * Create a temporary directory to use during testing, which will be cleaned down when the
+     * returned handle is closed, or when the JVM exits, whichever comes first.
+     *
+     * <p>Closing the handle as soon as the directory is no longer needed keeps disk usage flat
+     * over long test runs:
+     *
+     * <pre>{@code
+     * try (Temp.TempDir dir = Temp.closeableTempDir("some-prefix")) {
+     *     // use dir.path()
+     * }
+     * }</pre>
+     *
+     * @param prefix directory prefix to use.
+     * @return the handle to the dir.
+     */
+    public static TempDir closeableTempDir(final String prefix) {
+        return new TempDir(tempDir(prefix));
+    }
+
+    @SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "Trusted user data")
+    private static Path create(final String prefix) {
         try {
-            final Path path = Files.createTempDirectory(prefix).toAbsolutePath();
-            Runtime.getRuntime()
-                    .addShutdownHook(new Thread(() -> recursiveDelete(path, Files::delete)));
-            return path;
+            return Files.createTempDirectory(prefix).toAbsolutePath();
         } catch (final Exception e) {
             throw new RuntimeException("Failed to create temporary directory", e);
         }
     }
 
+    // @VisibleForTesting
+    static void deleteAll(final Collection<Path> paths, final FileDeleteMethod delete) {
+        paths.parallelStream().forEach(path -> recursiveDelete(path, delete));
+    }
+
     // @VisibleForTesting
     static void recursiveDelete(final Path path, final FileDeleteMethod delete) {
         try {
@@ -85,8 +122,54 @@ public final class Temp {
         }
     }
 
+    /** Handle to a temporary directory that is cleaned down when closed. */
+    public static final class TempDir implements AutoCloseable {
+
+        private final Path path;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private TempDir(final Path path) {
+            this.path = requireNonNull(path, "path");
+        }
+
+        /** @return the path to the dir. */
+        public Path path() {
+            return path;
+        }
+
+        /** Recursively delete the directory. Subsequent calls have no effect. */
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+
+            recursiveDelete(path, Files::delete);
+            if (Files.notExists(path)) {
+                Registry.PATHS.remove(path);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return path.toString();
+        }
+    }
+
     // @VisibleForTesting
     interface FileDeleteMethod {
         void delete(Path path) throws IOException;
     }
+
+    /** Directories to delete on exit, registered with a single, lazily installed, shutdown hook. */
+    private static final class Registry {
+
+        static final Set<Path> PATHS = ConcurrentHashMap.newKeySet();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteAll(PATHS, Files::delete)));
+        }
+
+        private Registry() {}
+    }
 }
@@ -18,6 +18,7 @@ package org.creekservice.api.test.util;
 
 import static org.creekservice.api.test.hamcrest.PathMatchers.directory;
 import static org.creekservice.api.test.hamcrest.PathMatchers.doesNotExist;
+import static org.creekservice.api.test.util.Temp.deleteAll;
 import static org.creekservice.api.test.util.Temp.recursiveDelete;
 import static org.creekservice.api.test.util.TestPaths.write;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -27,10 +28,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -57,6 +61,78 @@ class TempTest {
         assertThrows(RuntimeException.class, () -> Temp.tempDir("/\\"));
     }
 
+    @Test
+    void shouldGetCloseableTempDirectory() {
+        // When:
+        try (Temp.TempDir dir = Temp.closeableTempDir("some-prefix")) {
+
+            // Then:
+            assertThat(dir.path().getFileName().toString(), startsWith("some-prefix"));
+            assertThat(dir.path(), is(directory()));
+        }
+    }
+
+    @Test
+    void shouldDeleteOnClose() {
+        // Given:
+        final Temp.TempDir dir = Temp.closeableTempDir("some-prefix");
+        write(dir.path().resolve("sub0").resolve("file0"), "text");
+
+        // When:
+        dir.close();
+
+        // Then:
+        assertThat(dir.path(), is(doesNotExist()));
+    }
+
+    @Test
+    void shouldIgnoreSubsequentClose() {
+        // Given:
+        final Temp.TempDir dir = Temp.closeableTempDir("some-prefix");
+        dir.close();
+
+        // When:
+        dir.close();
+
+        // Then: did not throw.
+        assertThat(dir.path(), is(doesNotExist()));
+    }
+
+    @Test
+    void shouldDeleteAll() throws Exception {
+        // Given:
+        final List<Path> dirs = new ArrayList<>();
+        for (int i = 0; i != 10; ++i) {
+            final Path dir = Files.createTempDirectory("r");
+            write(dir.resolve("file0"), "text");
+            write(dir.resolve("sub0").resolve("file1"), "text");
+            dirs.add(dir);
+        }
+
+        // When:
+        deleteAll(dirs, Files::delete);
+
+        // Then:
+        dirs.forEach(dir -> assertThat(dir, is(doesNotExist())));
+    }
+
+    @Test
+    void shouldDeleteRemainingDirsIfOneFails() throws Exception {
+        // Given:
+        final Path bad = Temp.tempDir("some-prefix");
+        final Path good = Temp.tempDir("some-prefix");
+
+        doNothing().when(deleteMethod).delete(good);
+        doThrow(new IOException("BOOM")).when(deleteMethod).delete(bad);
+
+        // When:
+        deleteAll(List.of(bad, good), deleteMethod);
+
+        // Then:
+        verify(deleteMethod).delete(good);
+        assertThat(bad, is(directory()));
+    }
+
     @Test
     void shouldDeleteContents() throws Exception {
         // Given: